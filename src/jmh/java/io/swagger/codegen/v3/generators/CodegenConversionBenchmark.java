@@ -0,0 +1,112 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.CodegenParameter;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the schema/operation conversion methods of {@link DefaultCodegenConfig}, one call per
+ * benchmark invocation, against synthetic specs of increasing size. Run with the gc profiler
+ * ({@code -prof gc}) to get the normalized allocation per call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodegenConversionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private SyntheticSpec spec;
+    private JavaClientCodegen codegen;
+    private Map<String, Schema> schemas;
+    private String[] modelNames;
+    private String[] propertyNames;
+    private Schema[] propertySchemas;
+
+    private int modelIndex;
+    private int propertyIndex;
+    private int operationIndex;
+    private int parameterIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spec = new SyntheticSpec(size);
+        schemas = spec.getSchemas();
+        modelNames = schemas.keySet().toArray(new String[0]);
+
+        final List<String> names = new ArrayList<>();
+        final List<Schema> properties = new ArrayList<>();
+        for (Schema schema : schemas.values()) {
+            final Map<String, Schema> schemaProperties = schema.getProperties();
+            for (Map.Entry<String, Schema> entry : schemaProperties.entrySet()) {
+                names.add(entry.getKey());
+                properties.add(entry.getValue());
+            }
+        }
+        propertyNames = names.toArray(new String[0]);
+        propertySchemas = properties.toArray(new Schema[0]);
+
+        codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        codegen.preprocessOpenAPI(spec.getOpenAPI());
+        // the first call initializes the type alias table, keep it out of the measurement.
+        codegen.fromModel(modelNames[0], schemas.get(modelNames[0]), schemas);
+    }
+
+    @Benchmark
+    public CodegenModel fromModel() {
+        final int index = next(modelIndex++, modelNames.length);
+        final String name = modelNames[index];
+        return codegen.fromModel(name, schemas.get(name), schemas);
+    }
+
+    @Benchmark
+    public CodegenProperty fromProperty() {
+        final int index = next(propertyIndex++, propertyNames.length);
+        return codegen.fromProperty(propertyNames[index], propertySchemas[index]);
+    }
+
+    @Benchmark
+    public CodegenOperation fromOperation() {
+        final int index = next(operationIndex++, spec.getOperations().size());
+        return codegen.fromOperation(spec.getPaths().get(index), spec.getMethods().get(index),
+                spec.getOperations().get(index), schemas, spec.getOpenAPI());
+    }
+
+    @Benchmark
+    public CodegenParameter fromParameter() {
+        final List<Parameter> parameters = spec.getParameters();
+        final int index = next(parameterIndex++, parameters.size());
+        return codegen.fromParameter(parameters.get(index), new HashSet<>());
+    }
+
+    private static int next(int counter, int length) {
+        return (counter & Integer.MAX_VALUE) % length;
+    }
+}
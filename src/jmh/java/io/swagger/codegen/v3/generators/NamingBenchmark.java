@@ -0,0 +1,97 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the string helpers that every model, property and operation name goes through.
+ * The inputs are the identifiers of a synthetic spec of the given size, so the larger sizes also
+ * show how any name cache behaves once the working set grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NamingBenchmark {
+
+    private static final String[] SHAPES = {
+        "%s", "%s_id", "get-%s-by-id", "%sHTTPResponse", "list[%s]", "%s.value", "some/path/%s",
+        "%s (deprecated)", "$%s", "with space %s", "%s__double_under", "X-%s-Header"
+    };
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private JavaClientCodegen codegen;
+    private String[] words;
+    private String[] descriptions;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codegen = new JavaClientCodegen();
+        codegen.processOpts();
+
+        final List<String> identifiers = new ArrayList<>();
+        final List<String> texts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final String name = SyntheticSpec.modelName(i);
+            identifiers.add(String.format(SHAPES[i % SHAPES.length], name));
+            texts.add("The \"" + name + "\" resource\n\tcontains a back\\slash and a / slash.");
+        }
+        words = identifiers.toArray(new String[0]);
+        descriptions = texts.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String camelize() {
+        return DefaultCodegenConfig.camelize(nextWord());
+    }
+
+    @Benchmark
+    public String camelizeLowerFirst() {
+        return DefaultCodegenConfig.camelize(nextWord(), true);
+    }
+
+    @Benchmark
+    public String underscore() {
+        return DefaultCodegenConfig.underscore(nextWord());
+    }
+
+    @Benchmark
+    public String sanitizeName() {
+        return codegen.sanitizeName(nextWord());
+    }
+
+    @Benchmark
+    public String escapeText() {
+        return codegen.escapeText(descriptions[next()]);
+    }
+
+    private String nextWord() {
+        return words[next()];
+    }
+
+    private int next() {
+        final int current = index;
+        index = current + 1 == size ? 0 : current + 1;
+        return current;
+    }
+}
@@ -0,0 +1,147 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds deterministic OpenAPI documents of a given size for the benchmarks. Every schema references
+ * its neighbour, so model conversion has to walk references the same way a real monolith spec does.
+ */
+public class SyntheticSpec {
+
+    private static final String JSON = "application/json";
+
+    private final OpenAPI openAPI;
+    private final List<String> paths = new ArrayList<>();
+    private final List<String> methods = new ArrayList<>();
+    private final List<Operation> operations = new ArrayList<>();
+    private final List<Parameter> parameters = new ArrayList<>();
+
+    public SyntheticSpec(int size) {
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            schemas.put(modelName(i), createSchema(i, size));
+        }
+        final Paths openAPIPaths = new Paths();
+        for (int i = 0; i < size; i++) {
+            final String path = "/resource" + i + "/{resourceId}";
+            final PathItem pathItem = new PathItem();
+            final Operation operation;
+            if (i % 2 == 0) {
+                operation = createGetOperation(i);
+                pathItem.setGet(operation);
+                methods.add("GET");
+            } else {
+                operation = createPostOperation(i);
+                pathItem.setPost(operation);
+                methods.add("POST");
+            }
+            openAPIPaths.addPathItem(path, pathItem);
+            paths.add(path);
+            operations.add(operation);
+            parameters.addAll(operation.getParameters());
+        }
+        this.openAPI = new OpenAPI()
+                .info(new Info().title("synthetic").version("1.0.0"))
+                .paths(openAPIPaths)
+                .components(new Components().schemas(schemas));
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    public Map<String, Schema> getSchemas() {
+        return openAPI.getComponents().getSchemas();
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    public static String modelName(int index) {
+        return "Synthetic_model-" + index;
+    }
+
+    private static Schema createSchema(int index, int size) {
+        final String next = "#/components/schemas/" + modelName((index + 1) % size);
+        final StringSchema status = new StringSchema();
+        status.setEnum(Arrays.asList("available", "pending-review", "sold out"));
+        return new ObjectSchema()
+                .description("Synthetic \"model\" number " + index + "\nwith a multi-line description.")
+                .addProperties("id", new IntegerSchema().format("int64"))
+                .addProperties("display_name", new StringSchema().example("name " + index))
+                .addProperties("createdAt", new DateTimeSchema())
+                .addProperties("status", status)
+                .addProperties("tag-list", new ArraySchema().items(new StringSchema()))
+                .addProperties("attributes", new MapSchema().additionalProperties(new StringSchema()))
+                .addProperties("next", new Schema().$ref(next))
+                .addProperties("children", new ArraySchema().items(new Schema().$ref(next)))
+                .required(Arrays.asList("id", "display_name"));
+    }
+
+    private static Operation createGetOperation(int index) {
+        final ApiResponse ok = new ApiResponse()
+                .description("successful operation")
+                .content(new Content().addMediaType(JSON, new MediaType().schema(new Schema().$ref(modelName(index)))));
+        return new Operation()
+                .operationId("get_resource" + index)
+                .addTagsItem("tag" + (index % 20))
+                .addParametersItem(new PathParameter().name("resourceId").required(true).schema(new IntegerSchema().format("int64")))
+                .addParametersItem(new QueryParameter().name("page-size").schema(new IntegerSchema()))
+                .addParametersItem(new QueryParameter().name("filter[status]").schema(new ArraySchema().items(new StringSchema())))
+                .addParametersItem(new HeaderParameter().name("X-Request-ID").schema(new StringSchema()))
+                .responses(new ApiResponses().addApiResponse("200", ok).addApiResponse("404", new ApiResponse().description("not found")));
+    }
+
+    private static Operation createPostOperation(int index) {
+        final RequestBody body = new RequestBody()
+                .required(true)
+                .content(new Content().addMediaType(JSON, new MediaType().schema(new Schema().$ref(modelName(index)))));
+        return new Operation()
+                .operationId("createResource" + index)
+                .addTagsItem("tag" + (index % 20))
+                .addParametersItem(new PathParameter().name("resourceId").required(true).schema(new IntegerSchema().format("int64")))
+                .addParametersItem(new HeaderParameter().name("X-Request-ID").schema(new StringSchema()))
+                .requestBody(body)
+                .responses(new ApiResponses().addApiResponse("201", new ApiResponse().description("created")));
+    }
+}
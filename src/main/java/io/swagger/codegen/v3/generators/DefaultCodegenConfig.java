@@ -17,16 +17,25 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.examples.ExampleCache;
 import io.swagger.codegen.v3.generators.examples.ExampleGenerator;
 import io.swagger.codegen.v3.generators.handlebars.BaseItemsHelper;
 import io.swagger.codegen.v3.generators.handlebars.BracesHelper;
+import io.swagger.codegen.v3.generators.handlebars.CompiledTemplateCache;
 import io.swagger.codegen.v3.generators.handlebars.HasHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.NotEmptyHelper;
 import io.swagger.codegen.v3.generators.handlebars.StringUtilHelper;
+import io.swagger.codegen.v3.generators.util.BoundedCache;
+import io.swagger.codegen.v3.generators.util.CompactVendorExtensions;
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.codegen.v3.generators.util.SanitizationRules;
+import io.swagger.codegen.v3.generators.util.SharedMap;
+import io.swagger.codegen.v3.generators.util.SharedSet;
 import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
@@ -35,6 +44,7 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -77,22 +87,38 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.swagger.codegen.v3.CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME;
 import static io.swagger.codegen.v3.CodegenConstants.HAS_OPTIONAL_EXT_NAME;
@@ -105,14 +131,60 @@ import static io.swagger.codegen.v3.generators.CodegenHelper.getImportMappings;
 import static io.swagger.codegen.v3.generators.CodegenHelper.getTypeMappings;
 import static io.swagger.codegen.v3.generators.CodegenHelper.initalizeSpecialCharacterMapping;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
-import static io.swagger.codegen.v3.utils.ModelUtils.processCodegenModels;
 
-public abstract class DefaultCodegenConfig implements CodegenConfig {
+public abstract class DefaultCodegenConfig implements CodegenConfig, Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegenConfig.class);
 
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
     public static final String DEFAULT_TEMPLATE_DIR = "handlebars";
+    /**
+     * Skips the pretty printed JSON stored in {@code modelJson} and {@code jsonSchema} of the codegen objects,
+     * for templates that don't render them.
+     */
+    public static final String SKIP_JSON_SCHEMA = "skipJsonSchema";
+    /**
+     * Number of threads converting models (and operations) ahead of the generator, values below 1 use all
+     * available processors. Default is 1, i.e. sequential conversion.
+     */
+    public static final String CONVERSION_PARALLELISM = "conversionParallelism";
+    /**
+     * Only renders the model and API files whose inputs changed since the previous run, see {@link IncrementalGeneration}.
+     */
+    public static final String INCREMENTAL_GENERATION = "incrementalGeneration";
+    /**
+     * Streams the response examples with a bounded depth and size instead of building them as object trees,
+     * see {@link ExampleGenerator#setStreaming(boolean)}.
+     */
+    public static final String STREAMING_EXAMPLES = "streamingExamples";
+    /**
+     * Adds XML response examples for the XML media types an operation produces, next to the JSON one. Off by
+     * default, templates pasting the examples as code expect JSON.
+     */
+    public static final String XML_EXAMPLES = "xmlExamples";
+    /**
+     * Times the generation phases and writes a report at the end of the run, see {@link GenerationProfiler}.
+     * Values are <code>json</code> (or <code>true</code>) and <code>csv</code>.
+     */
+    public static final String PROFILE_GENERATION = "profileGeneration";
+    /**
+     * Releases the property and parameter lists of every model and operation once its files are rendered, only their
+     * names, imports, parents and the like are left for the supporting files (see {@link StreamingTemplateEngine}).
+     * Values are <code>true</code>, <code>false</code> or the size of the spec (number of schemas and operations)
+     * from which it is enabled. Not for generators whose supporting files render whole models or operations.
+     */
+    public static final String STREAMING_GENERATION = "streamingGeneration";
+
+    private static final int CAMELIZE_MAX_REPLACEMENTS = 100;
+    private static final int CAMELIZE_CACHE_SIZE = 10000;
+    private static final Pattern CAMELIZE_SLASH_PATTERN = Pattern.compile("\\/(.?)");
+    private static final Pattern CAMELIZE_CLASS_NAME_PATTERN = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern CAMELIZE_UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+    private static final Pattern CAMELIZE_HYPHEN_PATTERN = Pattern.compile("(-)(.)");
+    private static final Pattern TRAILING_NUMBER_PATTERN = Pattern.compile("\\d+\\z");
+    private static final BoundedCache<String, String> UPPER_CAMELIZE_CACHE = new BoundedCache<>(CAMELIZE_CACHE_SIZE);
+    private static final BoundedCache<String, String> LOWER_CAMELIZE_CACHE = new BoundedCache<>(CAMELIZE_CACHE_SIZE);
+    private static final Map<Class<?>, Map<String, Optional<JsonNode>>> LANGUAGE_ARGUMENTS_CACHE = new ConcurrentHashMap<>();
 
     protected OpenAPI openAPI;
     protected String inputSpec;
@@ -146,7 +218,24 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected List<SupportingFile> supportingFiles = new ArrayList<SupportingFile>();
     protected List<CliOption> cliOptions = new ArrayList<CliOption>();
     protected List<CodegenArgument> languageArguments;
+    private volatile Map<String, CodegenArgument> languageArgumentsIndex;
+    private List<CodegenArgument> indexedLanguageArguments;
+    private int indexedLanguageArgumentsSize;
     protected boolean skipOverwrite;
+    protected boolean skipJsonSchema;
+    protected boolean incrementalGeneration;
+    protected boolean streamingExamples;
+    protected boolean xmlExamples;
+    protected IncrementalGeneration incrementalGenerationManifest;
+    protected GenerationProfiler generationProfiler;
+    private ProfilingTemplateEngine profilingTemplateEngine;
+    protected int streamingGenerationThreshold = -1;
+    private StreamingTemplateEngine streamingTemplateEngine;
+    private OpenAPI measuredOpenAPI;
+    private int measuredSpecSize;
+    private volatile InheritanceGraph inheritanceGraph;
+    private volatile RefIndex refIndex;
+    private volatile ExampleCache exampleCache;
     protected boolean removeOperationIdPrefix;
     protected boolean supportsInheritance;
     protected boolean supportsMixins;
@@ -155,6 +244,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     protected Boolean sortParamsByRequiredFlag = true;
     protected Boolean ensureUniqueParams = true;
     protected Boolean allowUnicodeIdentifiers = false;
+    private SanitizationRules sanitizationRules;
+    private SanitizationRules unicodeSanitizationRules;
     protected String gitUserId, gitRepoId, releaseNote;
     protected String httpUserAgent;
     protected Boolean hideGenerationTimestamp = true;
@@ -165,7 +256,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // Then translated back during JSON encoding and decoding
     protected Map<String, String> specialCharReplacements = new HashMap<String, String>();
     // When a model is an alias for a simple type
-    protected Map<String, String> typeAliases = null;
+    protected volatile Map<String, String> typeAliases = null;
+    protected int conversionParallelism = 1;
+    private Map<String, Schema> preparedDefinitions;
+    private Map<String, Schema> prefetchedDefinitions;
+    private Map<String, CodegenModel> prefetchedModels;
+    private Map<String, RuntimeException> prefetchedModelFailures;
+    private volatile ForkJoinPool modelConversionPool;
+    private Object operationPrefetchLock = new Object();
+    private OpenAPI preparedOpenAPI;
+    private OpenAPI prefetchedOpenAPI;
+    private Map<String, Schema> prefetchedOperationSchemas;
+    private Map<Operation, List<PrefetchedOperation>> prefetchedOperations;
+    private volatile ForkJoinPool operationConversionPool;
+    private OperationIdIndex operationIdIndex = new OperationIdIndex();
 
     protected String ignoreFilePathOverride;
     protected boolean useOas2 = false;
@@ -215,6 +319,48 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     .get(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS).toString()));
         }
 
+        if (additionalProperties.containsKey(SKIP_JSON_SCHEMA)) {
+            this.setSkipJsonSchema(Boolean.valueOf(additionalProperties.get(SKIP_JSON_SCHEMA).toString()));
+        }
+
+        if (additionalProperties.containsKey(CONVERSION_PARALLELISM)) {
+            try {
+                this.setConversionParallelism(Integer.parseInt(additionalProperties.get(CONVERSION_PARALLELISM).toString().trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("invalid " + CONVERSION_PARALLELISM + " " + additionalProperties.get(CONVERSION_PARALLELISM) + ", converting sequentially");
+                this.setConversionParallelism(1);
+            }
+            if (conversionParallelism > 1 && !isParallelConversionSupported()) {
+                LOGGER.warn(getClass().getSimpleName() + " does not support " + CONVERSION_PARALLELISM + ", converting sequentially");
+                this.setConversionParallelism(1);
+            }
+        }
+
+        if (additionalProperties.containsKey(INCREMENTAL_GENERATION)) {
+            this.setIncrementalGeneration(Boolean.valueOf(additionalProperties.get(INCREMENTAL_GENERATION).toString()));
+        }
+
+        if (additionalProperties.containsKey(STREAMING_EXAMPLES)) {
+            this.setStreamingExamples(Boolean.valueOf(additionalProperties.get(STREAMING_EXAMPLES).toString()));
+        }
+
+        if (additionalProperties.containsKey(XML_EXAMPLES)) {
+            this.setXmlExamples(Boolean.valueOf(additionalProperties.get(XML_EXAMPLES).toString()));
+        }
+
+        if (additionalProperties.containsKey(PROFILE_GENERATION)) {
+            this.setProfileGeneration(additionalProperties.get(PROFILE_GENERATION).toString());
+        }
+
+        if (additionalProperties.containsKey(STREAMING_GENERATION)) {
+            try {
+                this.setStreamingGeneration(additionalProperties.get(STREAMING_GENERATION).toString());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("invalid " + STREAMING_GENERATION + " " + additionalProperties.get(STREAMING_GENERATION) + ", generating without streaming");
+                this.setStreamingGeneration(null);
+            }
+        }
+
         if(additionalProperties.containsKey(CodegenConstants.MODEL_NAME_PREFIX)){
             this.setModelNamePrefix((String) additionalProperties.get(CodegenConstants.MODEL_NAME_PREFIX));
         }
@@ -244,6 +390,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
+        final GenerationProfiler.Sample sample = profileHook("postProcessAllModels");
+        try {
+            return linkAllModels(processedModels);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    private Map<String, Object> linkAllModels(Map<String, Object> processedModels) {
         // Index all CodegenModels by model name.
         Map<String, CodegenModel> allModels = new HashMap<>();
         for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
@@ -256,10 +411,21 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             }
         }
         if (supportsInheritance) {
-            processCodegenModels(allModels);
+            InheritanceGraph.linkModels(allModels);
         }
-        for (String modelName : allModels.keySet()) {
-            final CodegenModel codegenModel = allModels.get(modelName);
+        linkInterfaceModels(allModels);
+        return processedModels;
+    }
+
+    /**
+     * Adds every composed model to the interface models of the models it is composed of (<code>x-model-names</code>),
+     * unless one with the same name (ignoring case) is already there. The interface names of each model are indexed
+     * when the model is first linked.
+     */
+    private static void linkInterfaceModels(Map<String, CodegenModel> allModels) {
+        final Map<CodegenModel, Set<String>> interfaceNames = new IdentityHashMap<>();
+        for (Map.Entry<String, CodegenModel> entry : allModels.entrySet()) {
+            final CodegenModel codegenModel = entry.getValue();
             if (!codegenModel.vendorExtensions.containsKey("x-is-composed-model")) {
                 continue;
             }
@@ -267,6 +433,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if (modelNames == null || modelNames.isEmpty()) {
                 continue;
             }
+            final String modelName = foldCase(entry.getKey());
             for (String name : modelNames) {
                 final CodegenModel model = allModels.get(name);
                 if (model == null) {
@@ -275,17 +442,38 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 if (model.interfaceModels == null) {
                     model.interfaceModels = new ArrayList<>();
                 }
-                if (!model.interfaceModels.stream().anyMatch(value -> value.name.equalsIgnoreCase(modelName))) {
+                final Set<String> names = interfaceNames.computeIfAbsent(model, key -> {
+                    final Set<String> existing = new HashSet<>();
+                    for (CodegenModel interfaceModel : key.interfaceModels) {
+                        existing.add(foldCase(interfaceModel.name));
+                    }
+                    return existing;
+                });
+                if (names.add(modelName)) {
                     model.interfaceModels.add(codegenModel);
                 }
             }
         }
-        return processedModels;
+    }
+
+    /**
+     * @return a key equal for strings that are {@link String#equalsIgnoreCase(String)}
+     */
+    private static String foldCase(String value) {
+        if (value == null) {
+            return null;
+        }
+        final char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
+        profileHook("postProcessModels").stop();
         return objs;
     }
 
@@ -410,12 +598,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
+        profileHook("postProcessOperationsWithModels").stop();
         return objs;
     }
 
     // override with any special post-processing
     @SuppressWarnings("static-method")
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        profileHook("postProcessSupportingFileData").stop();
         return objs;
     }
 
@@ -431,11 +621,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        profileHook("preprocessOpenAPI").stop();
         this.openAPI = openAPI;
+        this.refIndex = new RefIndex(openAPI);
     }
 
     @Override
     public void processOpenAPI(OpenAPI openAPI) {
+        if (incrementalGeneration) {
+            getIncrementalGeneration().save();
+            incrementalGenerationManifest = null;
+        }
+        if (generationProfiler != null) {
+            generationProfiler.save(outputFolder());
+        }
     }
 
     public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
@@ -444,7 +643,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public TemplateEngine getTemplateEngine() {
-        return this.templateEngine;
+        TemplateEngine engine = this.templateEngine;
+        if (streamingGenerationThreshold >= 0 && engine != null) {
+            if (streamingTemplateEngine == null || streamingTemplateEngine.getTemplateEngine() != engine) {
+                streamingTemplateEngine = new StreamingTemplateEngine(engine, this);
+            }
+            engine = streamingTemplateEngine;
+        }
+        if (generationProfiler == null || engine == null) {
+            return engine;
+        }
+        if (profilingTemplateEngine == null || profilingTemplateEngine.getTemplateEngine() != engine) {
+            profilingTemplateEngine = new ProfilingTemplateEngine(engine, generationProfiler);
+        }
+        return profilingTemplateEngine;
     }
 
     // override with any special text escaping logic
@@ -894,6 +1106,115 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         initalizeSpecialCharacterMapping(specialCharReplacements);
     }
 
+    /**
+     * Creates an independent generator in the state this one is in, so a configured generator can be kept as
+     * prototype (e.g. one per language in a long running service) and copied for every generation instead of
+     * running the constructors again.
+     *
+     * The collections held in the fields of the generator, including the ones declared by subclasses, are copied,
+     * their elements are not. The state of a run (spec, type aliases, conversion caches, incremental manifest and
+     * profiler) is not carried over. Prototypes should be copied before {@link #processOpts()}, so the values it
+     * adds (lambdas bound to the generator and the like) are created for every copy.
+     */
+    public DefaultCodegenConfig copy() {
+        final DefaultCodegenConfig copy;
+        try {
+            copy = (DefaultCodegenConfig) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Class<?> type = getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || field.getType().isPrimitive()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    final Object value = field.get(copy);
+                    final Object copiedValue = copyCollection(value);
+                    if (copiedValue != value) {
+                        field.set(copy, copiedValue);
+                    }
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new IllegalStateException("could not copy field " + type.getName() + "." + field.getName(), e);
+                }
+            }
+        }
+        // objects bound to the generator.
+        if (templateEngine instanceof MustacheTemplateEngine) {
+            copy.templateEngine = new MustacheTemplateEngine(copy);
+        } else if (templateEngine instanceof HandlebarTemplateEngine) {
+            copy.templateEngine = new HandlebarTemplateEngine(copy);
+        }
+        copy.schemaHandler = new SchemaHandler(copy);
+        // state of a run.
+        copy.openAPI = null;
+        copy.typeAliases = null;
+        copy.preparedDefinitions = null;
+        copy.prefetchedDefinitions = null;
+        copy.prefetchedModels = null;
+        copy.prefetchedModelFailures = null;
+        copy.modelConversionPool = null;
+        copy.operationPrefetchLock = new Object();
+        copy.preparedOpenAPI = null;
+        copy.prefetchedOpenAPI = null;
+        copy.prefetchedOperationSchemas = null;
+        copy.prefetchedOperations = null;
+        copy.operationConversionPool = null;
+        copy.operationIdIndex = new OperationIdIndex();
+        copy.inheritanceGraph = null;
+        copy.refIndex = null;
+        copy.exampleCache = null;
+        copy.incrementalGenerationManifest = null;
+        copy.generationProfiler = null;
+        copy.profilingTemplateEngine = null;
+        copy.streamingTemplateEngine = null;
+        copy.measuredOpenAPI = null;
+        return copy;
+    }
+
+    /**
+     * @return a copy of the JDK collection types generators use, other values (immutable collections included) as they are
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copyCollection(Object value) {
+        if (value == null) {
+            return null;
+        }
+        final Class<?> type = value.getClass();
+        if (type == HashMap.class) {
+            return new HashMap<>((Map<Object, Object>) value);
+        }
+        if (type == LinkedHashMap.class) {
+            return new LinkedHashMap<>((Map<Object, Object>) value);
+        }
+        if (type == TreeMap.class) {
+            return new TreeMap<>((SortedMap<Object, Object>) value);
+        }
+        if (type == ConcurrentHashMap.class) {
+            return new ConcurrentHashMap<>((Map<Object, Object>) value);
+        }
+        if (type == HashSet.class) {
+            return new HashSet<>((Set<Object>) value);
+        }
+        if (type == LinkedHashSet.class) {
+            return new LinkedHashSet<>((Set<Object>) value);
+        }
+        if (type == TreeSet.class) {
+            return new TreeSet<>((SortedSet<Object>) value);
+        }
+        if (type == ArrayList.class) {
+            return new ArrayList<>((List<Object>) value);
+        }
+        if (type == SharedSet.class) {
+            return ((SharedSet<Object>) value).copy();
+        }
+        if (type == SharedMap.class) {
+            return ((SharedMap<Object, Object>) value).copy();
+        }
+        return value;
+    }
+
     /**
      * Return the symbol name of a symbol
      *
@@ -1044,17 +1365,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @param property Schema property object
      * @return string presentation of the type
      **/
-    @SuppressWarnings("static-method")
     public String getSchemaType(Schema property) {
         String datatype = null;
 
         if (StringUtils.isNotBlank(property.get$ref())) {
             try {
-                datatype = property.get$ref();
-                if (datatype.indexOf("#/components/schemas/") == 0) {
-                    datatype = datatype.substring("#/components/schemas/".length());
-                    return datatype;
-                }
+                datatype = getRefIndex().getSchemaName(property.get$ref());
             } catch (Exception e) {
                 LOGGER.warn("Error obtaining the datatype from ref:" + property + ". Datatype default to Object");
                 datatype = "Object";
@@ -1158,10 +1474,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     public String getTypeDeclaration(Schema schema) {
         String schemaType = getSchemaType(schema);
-        if (typeMapping.containsKey(schemaType)) {
-            return typeMapping.get(schemaType);
-        }
-        return schemaType;
+        return typeMapping.getOrDefault(schemaType, schemaType);
     }
 
     /**
@@ -1251,11 +1564,146 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Model object
      */
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        final GenerationProfiler.Sample sample = profileHook("fromModel");
+        try {
+            initializeTypeAliases(allDefinitions);
+            if (incrementalGeneration && allDefinitions != null && !isConversionThread() && allDefinitions.get(name) == schema) {
+                getIncrementalGeneration().addModel(name, allDefinitions);
+            }
+            if (allDefinitions != null && !isConversionThread()) {
+                prepareDefinitions(allDefinitions);
+            }
+            if (isParallelConversion() && allDefinitions != null && !isConversionThread()) {
+                final CodegenModel codegenModel = takePrefetchedModel(name, schema, allDefinitions);
+                if (codegenModel != null) {
+                    return codegenModel;
+                }
+            }
+            return convertModel(name, schema, allDefinitions);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    private void initializeTypeAliases(Map<String, Schema> allDefinitions) {
         if (typeAliases == null) {
-            // Only do this once during first call
-            typeAliases = getAllAliases(allDefinitions);
+            synchronized (this) {
+                if (typeAliases == null) {
+                    // Only do this once during first call
+                    typeAliases = getAllAliases(allDefinitions);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the extensions the conversion derives from the definitions (the model name of the composed items of array
+     * models) once, before the first model of the definitions map is converted. Every conversion of a model sees the
+     * same schema whatever the order, and the conversions running in parallel only read the shared schemas.
+     */
+    private void prepareDefinitions(Map<String, Schema> allDefinitions) {
+        synchronized (this) {
+            if (preparedDefinitions == allDefinitions) {
+                return;
+            }
+            preparedDefinitions = allDefinitions;
+            for (Map.Entry<String, Schema> entry : allDefinitions.entrySet()) {
+                if (entry.getKey() == null || !(entry.getValue() instanceof ArraySchema)) {
+                    continue;
+                }
+                final Schema items = ((ArraySchema) entry.getValue()).getItems();
+                if (items instanceof ComposedSchema) {
+                    final String name = reservedWords.contains(entry.getKey()) ? escapeReservedWord(entry.getKey()) : entry.getKey();
+                    schemaHandler.configureSchemaItemsModelName(name, (ComposedSchema) items);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the model converted ahead of time for the given definition. The first call for a definitions map
+     * converts all of its schemas in parallel (using {@link #conversionParallelism} threads), every converted model
+     * is handed out once, later calls fall back to the sequential conversion. The failure of a schema is thrown by
+     * the call for that schema, as the sequential conversion would.
+     */
+    private CodegenModel takePrefetchedModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        synchronized (this) {
+            if (prefetchedDefinitions != allDefinitions) {
+                prefetchedDefinitions = allDefinitions;
+                prefetchedModelFailures = new ConcurrentHashMap<>();
+                prefetchedModels = convertModelsInParallel(allDefinitions, prefetchedModelFailures);
+            }
+            if (name == null || schema == null || allDefinitions.get(name) != schema) {
+                return null;
+            }
+            final RuntimeException failure = prefetchedModelFailures.remove(name);
+            if (failure != null) {
+                throw failure;
+            }
+            return prefetchedModels.remove(name);
         }
+    }
+
+    private boolean isParallelConversion() {
+        return conversionParallelism > 1 && isParallelConversionSupported();
+    }
+
+    /**
+     * Whether the conversion hooks of this generator ({@link #fromProperty(String, Schema)}, {@link #toModelName(String)},
+     * {@link #postProcessModelProperty(CodegenModel, CodegenProperty)} and so on) are thread safe, so models and
+     * operations may be converted ahead of time by {@link #CONVERSION_PARALLELISM} threads. Generators opt in by
+     * overriding this, all others convert sequentially on the caller thread whatever the option says.
+     *
+     * @return true if the generator can convert models and operations in parallel
+     */
+    protected boolean isParallelConversionSupported() {
+        return false;
+    }
+
+    private boolean isConversionThread() {
+        final ForkJoinPool pool = ForkJoinTask.getPool();
+        return pool != null && (pool == modelConversionPool || pool == operationConversionPool);
+    }
+
+    private Map<String, CodegenModel> convertModelsInParallel(Map<String, Schema> allDefinitions, Map<String, RuntimeException> failures) {
+        final Map<String, CodegenModel> models = new ConcurrentHashMap<>();
+        final ForkJoinPool pool = new ForkJoinPool(conversionParallelism);
+        modelConversionPool = pool;
+        try {
+            pool.submit(() -> allDefinitions.entrySet().parallelStream().forEach(entry -> {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    return;
+                }
+                try {
+                    models.put(entry.getKey(), convertModel(entry.getKey(), entry.getValue(), allDefinitions));
+                } catch (ConcurrentModificationException e) {
+                    // converted again by the sequential call for this model.
+                    LOGGER.warn("parallel conversion of model {} failed, converting it sequentially", entry.getKey(), e);
+                } catch (RuntimeException e) {
+                    failures.put(entry.getKey(), e);
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            models.clear();
+            failures.clear();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            LOGGER.warn("parallel model conversion failed, falling back to sequential conversion", e.getCause());
+            models.clear();
+            failures.clear();
+        } finally {
+            modelConversionPool = null;
+            pool.shutdown();
+        }
+        return models;
+    }
+
+    private CodegenModel convertModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
         final CodegenModel codegenModel = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
+        codegenModel.vendorExtensions = new CompactVendorExtensions(codegenModel.vendorExtensions);
         if (reservedWords.contains(name)) {
             codegenModel.name = escapeReservedWord(name);
         } else {
@@ -1267,7 +1715,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenModel.classname = toModelName(name);
         codegenModel.classVarName = toVarName(name);
         codegenModel.classFilename = toModelFilename(name);
-        codegenModel.modelJson = Json.pretty(schema);
+        codegenModel.modelJson = toJsonSchema(schema);
         codegenModel.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             codegenModel.getVendorExtensions().putAll(schema.getExtensions());
@@ -1359,7 +1807,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         continue;
                     }
                     Schema refSchema = null;
-                    String ref = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+                    String ref = getRefIndex().getName(interfaceSchema.get$ref());
                     if (allDefinitions != null) {
                         refSchema = allDefinitions.get(ref);
                     }
@@ -1413,60 +1861,69 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
         if (codegenModel.vars != null) {
             for(CodegenProperty prop : codegenModel.vars) {
-                postProcessModelProperty(codegenModel, prop);
+                final GenerationProfiler.Sample sample = profileHook("postProcessModelProperty");
+                try {
+                    postProcessModelProperty(codegenModel, prop);
+                } finally {
+                    sample.stop();
+                }
             }
         }
         return codegenModel;
     }
 
+    protected void addAdditionPropertiesToCodeGenModel(CodegenModel codegenModel, Schema schema) {
+        addParentContainer(codegenModel, codegenModel.name, schema);
+    }
+
     /**
-     * Recursively look for a discriminator in the interface tree
+     * @return the reference index of the spec being generated, built by {@link #preprocessOpenAPI(OpenAPI)}
      */
-    private boolean isDiscriminatorInInterfaceTree(ComposedSchema composedSchema, Map<String, Schema> allSchema) {
-        if (composedSchema == null || allSchema == null || allSchema.isEmpty()) {
-            return false;
-        }
-        if (composedSchema.getDiscriminator() != null) {
-            return true;
-        }
-        final List<Schema> interfaces = getInterfaces(composedSchema);
-        if(interfaces == null) {
-            return false;
-        }
-        for (Schema interfaceSchema : interfaces) {
-            if (interfaceSchema.getDiscriminator() != null) {
-                return true;
-            }
+    public RefIndex getRefIndex() {
+        return getRefIndex(openAPI);
+    }
+
+    /**
+     * @return the reference index of the given spec, the index of the last requested spec is reused.
+     */
+    protected RefIndex getRefIndex(OpenAPI openAPI) {
+        RefIndex index = refIndex;
+        if (index == null || index.getOpenAPI() != openAPI) {
+            index = new RefIndex(openAPI);
+            refIndex = index;
         }
-        return false;
+        return index;
     }
 
-    protected void addAdditionPropertiesToCodeGenModel(CodegenModel codegenModel, Schema schema) {
-        addParentContainer(codegenModel, codegenModel.name, schema);
+    /**
+     * @return the streamed examples of the models of the given spec, shared by the example generators of its
+     * operations. The cache of the last requested spec is reused.
+     */
+    protected ExampleCache getExampleCache(OpenAPI openAPI) {
+        ExampleCache cache = exampleCache;
+        if (cache == null || cache.getOpenAPI() != openAPI) {
+            cache = new ExampleCache(openAPI);
+            exampleCache = cache;
+        }
+        return cache;
     }
 
+    /**
+     * Adds the properties of the schema, for composed schemas the properties of their interfaces (all but the first
+     * <code>allOf</code>) and for references the properties of the referenced schema, recursively. The properties
+     * inherited by every schema are resolved once per spec, see {@link InheritanceGraph}.
+     */
     protected void addProperties(Map<String, Schema> properties, List<String> required, Schema schema, Map<String, Schema> allSchemas) {
-        if(schema instanceof ComposedSchema) {
-            ComposedSchema composedSchema = (ComposedSchema) schema;
-            if(composedSchema.getAllOf() == null || composedSchema.getAllOf().isEmpty() || composedSchema.getAllOf().size() == 1) {
-                return;
-            }
-            for (int i = 1; i < composedSchema.getAllOf().size(); i++) {
-                addProperties(properties, required, composedSchema.getAllOf().get(i), allSchemas);
-            }
-            return;
-        }
-        if(StringUtils.isNotBlank(schema.get$ref())) {
-            Schema interfaceSchema = allSchemas.get(OpenAPIUtil.getSimpleRef(schema.get$ref()));
-            addProperties(properties, required, interfaceSchema, allSchemas);
-            return;
-        }
-        if(schema.getProperties() != null) {
-            properties.putAll(schema.getProperties());
-        }
-        if(schema.getRequired() != null) {
-            required.addAll(schema.getRequired());
+        getInheritanceGraph(allSchemas).addProperties(properties, required, schema);
+    }
+
+    private InheritanceGraph getInheritanceGraph(Map<String, Schema> allSchemas) {
+        InheritanceGraph graph = inheritanceGraph;
+        if (graph == null || !graph.isFor(allSchemas)) {
+            graph = new InheritanceGraph(allSchemas, getRefIndex());
+            inheritanceGraph = graph;
         }
+        return graph;
     }
 
     /**
@@ -1497,6 +1954,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
 
         final CodegenProperty codegenProperty = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
+        codegenProperty.vendorExtensions = new CompactVendorExtensions(codegenProperty.vendorExtensions);
         codegenProperty.name = toVarName(name);
         codegenProperty.baseName = name;
         codegenProperty.nameInCamelCase = camelize(codegenProperty.name, false);
@@ -1511,7 +1969,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
         codegenProperty.defaultValue = toDefaultValue(propertySchema);
         codegenProperty.defaultValueWithParam = toDefaultValueWithParam(name, propertySchema);
-        codegenProperty.jsonSchema = Json.pretty(propertySchema);
+        codegenProperty.jsonSchema = toJsonSchema(propertySchema);
         if (propertySchema.getNullable() != null) {
             codegenProperty.nullable = propertySchema.getNullable();
         }
@@ -1917,7 +2375,252 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Operation object
      */
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        final GenerationProfiler.Sample sample = profileHook("fromOperation");
+        try {
+            if (openAPI != null && openAPI.getPaths() != null && !isConversionThread()) {
+                prepareOperations(schemas, openAPI);
+            }
+            if (isParallelConversion() && openAPI != null && openAPI.getPaths() != null && operation != null && !isConversionThread()) {
+                final CodegenOperation codegenOperation = takePrefetchedOperation(path, httpMethod, operation, schemas, openAPI);
+                if (codegenOperation != null) {
+                    return codegenOperation;
+                }
+            }
+            return convertOperation(path, httpMethod, operation, schemas, openAPI);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    /**
+     * Sets the extensions the conversion derives from the spec (the content type of the response schemas, and those
+     * of the definitions, see {@link #prepareDefinitions(Map)}) once, before its first operation is converted, so the
+     * conversions running in parallel only read the shared schemas.
+     */
+    private void prepareOperations(Map<String, Schema> schemas, OpenAPI openAPI) {
+        synchronized (operationPrefetchLock) {
+            if (preparedOpenAPI == openAPI) {
+                return;
+            }
+            preparedOpenAPI = openAPI;
+            if (schemas != null) {
+                prepareDefinitions(schemas);
+            }
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                if (pathItem == null) {
+                    continue;
+                }
+                for (Operation operation : pathItem.readOperations()) {
+                    if (operation.getResponses() == null) {
+                        continue;
+                    }
+                    for (ApiResponse response : operation.getResponses().values()) {
+                        if (response != null) {
+                            getSchemaFromResponse(response);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the operation converted ahead of time for the given arguments. The first call for a spec converts the
+     * operations of all its paths in parallel (once per tag, the way the generator groups them), every conversion
+     * is handed out once. Operations whose path, method or parameters differ from the prefetched ones fall back to
+     * the sequential conversion. The failure of an operation is thrown by the call for that operation.
+     */
+    private CodegenOperation takePrefetchedOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        synchronized (operationPrefetchLock) {
+            if (prefetchedOpenAPI != openAPI || prefetchedOperationSchemas != schemas) {
+                prefetchedOpenAPI = openAPI;
+                prefetchedOperationSchemas = schemas;
+                prefetchedOperations = convertOperationsInParallel(schemas, openAPI);
+            }
+            final List<PrefetchedOperation> candidates = prefetchedOperations.get(operation);
+            if (candidates == null) {
+                return null;
+            }
+            for (PrefetchedOperation candidate : candidates) {
+                if (candidate.matches(path, httpMethod, operation)) {
+                    if (candidate.failure != null) {
+                        throw candidate.failure;
+                    }
+                    final CodegenOperation codegenOperation = candidate.conversions.poll();
+                    if (codegenOperation != null && operation.getResponses() != null && !operation.getResponses().isEmpty()) {
+                        final ApiResponse methodResponse = findMethodResponse(operation.getResponses());
+                        final Schema responseSchema = methodResponse == null ? null : getSchemaFromResponse(methodResponse);
+                        if (responseSchema != null) {
+                            addExamples(codegenOperation, responseSchema, openAPI);
+                        }
+                    }
+                    return codegenOperation;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Adds the examples of the response schema. The examples built from the model values are set on the spec schemas
+     * and reused by the following operations, so they are added in the order of the generator, on its thread.
+     */
+    private void addExamples(CodegenOperation codegenOperation, Schema responseSchema, OpenAPI openAPI) {
+        if (additionalProperties.containsKey(CodegenConstants.DISABLE_EXAMPLES_OPTION)) {
+            return;
+        }
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI, getRefIndex(openAPI), getExampleCache(openAPI));
+        exampleGenerator.setStreaming(streamingExamples);
+        codegenOperation.examples = exampleGenerator.generate(null, getExampleMediaTypes(codegenOperation), responseSchema);
+    }
+
+    private Map<Operation, List<PrefetchedOperation>> convertOperationsInParallel(Map<String, Schema> schemas, OpenAPI openAPI) {
+        final List<PrefetchedOperation> prefetched = new ArrayList<>();
+        final List<PrefetchedOperation> tasks = new ArrayList<>();
+        for (Map.Entry<String, PathItem> pathEntry : openAPI.getPaths().entrySet()) {
+            final PathItem pathItem = pathEntry.getValue();
+            if (pathEntry.getKey() == null || pathItem == null) {
+                continue;
+            }
+            final String path = escapeQuotationMark(pathEntry.getKey());
+            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : pathItem.readOperationsMap().entrySet()) {
+                final Operation operation = operationEntry.getValue();
+                final PrefetchedOperation prefetchedOperation = new PrefetchedOperation(operation, path,
+                        operationEntry.getKey().name().toLowerCase(Locale.ROOT), withPathParameters(operation, pathItem));
+                prefetched.add(prefetchedOperation);
+                final int count = operation.getTags() == null ? 1 : Math.max(1, operation.getTags().size());
+                for (int i = 0; i < count; i++) {
+                    tasks.add(prefetchedOperation);
+                }
+            }
+        }
+        final CodegenOperation[] converted = new CodegenOperation[tasks.size()];
+        final ForkJoinPool pool = new ForkJoinPool(conversionParallelism);
+        operationConversionPool = pool;
+        try {
+            pool.submit(() -> IntStream.range(0, converted.length).parallel().forEach(index -> {
+                final PrefetchedOperation task = tasks.get(index);
+                try {
+                    converted[index] = convertOperation(task.path, task.httpMethod, task.effectiveOperation(), schemas, openAPI);
+                } catch (ConcurrentModificationException e) {
+                    // converted again by the sequential call for this operation.
+                    LOGGER.warn("parallel conversion of operation {} {} failed, converting it sequentially", task.httpMethod, task.path, e);
+                } catch (RuntimeException e) {
+                    task.failure = e;
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new IdentityHashMap<>();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            LOGGER.warn("parallel operation conversion failed, falling back to sequential conversion", e.getCause());
+            return new IdentityHashMap<>();
+        } finally {
+            operationConversionPool = null;
+            pool.shutdown();
+        }
+        for (int i = 0; i < converted.length; i++) {
+            if (converted[i] != null) {
+                tasks.get(i).conversions.add(converted[i]);
+            }
+        }
+        final Map<Operation, List<PrefetchedOperation>> operations = new IdentityHashMap<>();
+        for (PrefetchedOperation prefetchedOperation : prefetched) {
+            operations.computeIfAbsent(prefetchedOperation.operation, operation -> new ArrayList<>()).add(prefetchedOperation);
+        }
+        return operations;
+    }
+
+    /**
+     * Parameters of the operation once the generator has propagated the path level ones, which are skipped when
+     * the operation defines a parameter with the same name and location.
+     */
+    private static List<Parameter> withPathParameters(Operation operation, PathItem pathItem) {
+        final List<Parameter> parameters = operation.getParameters();
+        if (pathItem.getParameters() == null || pathItem.getParameters().isEmpty()) {
+            return parameters;
+        }
+        final Set<String> operationParameters = new HashSet<>();
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                operationParameters.add(parameter.getName() + ":" + parameter.getIn());
+            }
+        }
+        final List<Parameter> effectiveParameters = parameters == null ? new ArrayList<>() : new ArrayList<>(parameters);
+        for (Parameter parameter : pathItem.getParameters()) {
+            if (!operationParameters.contains(parameter.getName() + ":" + parameter.getIn())) {
+                effectiveParameters.add(parameter);
+            }
+        }
+        return effectiveParameters;
+    }
+
+    private static class PrefetchedOperation {
+        private final Operation operation;
+        private final String path;
+        private final String httpMethod;
+        private final List<Parameter> parameters;
+        private final Deque<CodegenOperation> conversions = new ArrayDeque<>();
+        // thrown by the call for this operation, as the sequential conversion would.
+        private RuntimeException failure;
+
+        PrefetchedOperation(Operation operation, String path, String httpMethod, List<Parameter> parameters) {
+            this.operation = operation;
+            this.path = path;
+            this.httpMethod = httpMethod;
+            this.parameters = parameters;
+        }
+
+        boolean matches(String path, String httpMethod, Operation operation) {
+            if (!this.path.equals(path) || !this.httpMethod.equals(httpMethod)) {
+                return false;
+            }
+            final List<Parameter> actual = operation.getParameters();
+            if (parameters == null || actual == null) {
+                return parameters == actual;
+            }
+            if (parameters.size() != actual.size()) {
+                return false;
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                if (parameters.get(i) != actual.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Copy of the operation with the path level parameters added, the spec itself is left untouched.
+         */
+        Operation effectiveOperation() {
+            if (parameters == operation.getParameters()) {
+                return operation;
+            }
+            final Operation effective = new Operation();
+            effective.setTags(operation.getTags());
+            effective.setSummary(operation.getSummary());
+            effective.setDescription(operation.getDescription());
+            effective.setExternalDocs(operation.getExternalDocs());
+            effective.setOperationId(operation.getOperationId());
+            effective.setParameters(parameters);
+            effective.setRequestBody(operation.getRequestBody());
+            effective.setResponses(operation.getResponses());
+            effective.setCallbacks(operation.getCallbacks());
+            effective.setDeprecated(operation.getDeprecated());
+            effective.setSecurity(operation.getSecurity());
+            effective.setServers(operation.getServers());
+            effective.setExtensions(operation.getExtensions());
+            return effective;
+        }
+    }
+
+    private CodegenOperation convertOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
         CodegenOperation codegenOperation = CodegenModelFactory.newInstance(CodegenModelType.OPERATION);
+        codegenOperation.vendorExtensions = new CompactVendorExtensions(codegenOperation.vendorExtensions);
         Set<String> imports = new HashSet<String>();
         if (operation.getExtensions() != null && !operation.getExtensions().isEmpty()) {
             codegenOperation.vendorExtensions.putAll(operation.getExtensions());
@@ -1997,8 +2700,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                             codegenOperation.returnBaseType = codegenProperty.baseType;
                         }
                     }
-                    if (!additionalProperties.containsKey(CodegenConstants.DISABLE_EXAMPLES_OPTION)) {
-                        codegenOperation.examples = new ExampleGenerator(openAPI).generate(null, null, responseSchema);
+                    // the examples of operations converted in parallel are added when they are handed out.
+                    if (!isConversionThread()) {
+                        addExamples(codegenOperation, responseSchema, openAPI);
                     }
                     codegenOperation.defaultResponse = toDefaultValue(responseSchema);
                     codegenOperation.returnType = codegenProperty.datatype;
@@ -2009,8 +2713,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     if (schemas != null) {
                         Schema schemaDefinition = schemas.get(codegenOperation.returnBaseType);
                         if (schemaDefinition != null) {
-                            CodegenModel cmod = fromModel(codegenOperation.returnBaseType, schemaDefinition, schemas);
-                            codegenOperation.discriminator = cmod.discriminator;
+                            // converted once per model, not once per operation returning it.
+                            final String returnBaseType = codegenOperation.returnBaseType;
+                            codegenOperation.discriminator = getInheritanceGraph(schemas).getDiscriminator(schemaDefinition,
+                                    schema -> fromModel(returnBaseType, schema, schemas).discriminator);
                         }
                     }
 
@@ -2031,11 +2737,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         codegenOperation.returnTypeIsPrimitive = true;
                     }
                 }
-                Map<String, Header> componentHeaders = null;
-                if ((openAPI != null) && (openAPI.getComponents() != null)) {
-                    componentHeaders = openAPI.getComponents().getHeaders();
-                }
-                addHeaders(methodResponse, codegenOperation.responseHeaders, componentHeaders);
+                addHeaders(methodResponse, codegenOperation.responseHeaders, openAPI);
             }
         }
 
@@ -2055,8 +2757,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         RequestBody body = operation.getRequestBody();
         if (body != null) {
             if (StringUtils.isNotBlank(body.get$ref())) {
-                String bodyName = OpenAPIUtil.getSimpleRef(body.get$ref());
-                body = openAPI.getComponents().getRequestBodies().get(bodyName);
+                body = getRefIndex(openAPI).getRequestBody(body.get$ref());
             }
 
             List<Schema> foundSchemas = new ArrayList<>();
@@ -2067,7 +2768,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 String schemaName = null;
                 Schema schema = body.getContent().get(contentType).getSchema();
                 if (schema != null && StringUtils.isNotBlank(schema.get$ref())) {
-                    schemaName = OpenAPIUtil.getSimpleRef(schema.get$ref());
+                    schemaName = getRefIndex().getName(schema.get$ref());
                     schema = schemas.get(schemaName);
                 }
                 final CodegenContent codegenContent = new CodegenContent(contentType);
@@ -2075,6 +2776,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
                 if (schema == null) {
                     CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+                    codegenParameter.vendorExtensions = new CompactVendorExtensions(codegenParameter.vendorExtensions);
                     codegenParameter.description = body.getDescription();
                     codegenParameter.unescapedDescription = body.getDescription();
                     codegenParameter.baseName = REQUEST_BODY_NAME;
@@ -2102,13 +2804,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                             }
                             // todo: this segment is only to support the "older" template design. it should be removed once all templates are updated with the new {{#contents}} tag.
                             formParameter.getVendorExtensions().put(CodegenConstants.IS_FORM_PARAM_EXT_NAME, Boolean.TRUE);
-                            formParams.add(formParameter.copy());
+                            formParams.add(copyParameter(formParameter));
                             if (body.getRequired() != null && body.getRequired()) {
-                                requiredParams.add(formParameter.copy());
+                                requiredParams.add(copyParameter(formParameter));
                             }
                             allParams.add(formParameter);
 
-                            codegenContent.getParameters().add(formParameter.copy());
+                            codegenContent.getParameters().add(copyParameter(formParameter));
                         }
                         codegenContents.add(codegenContent);
                     }
@@ -2116,7 +2818,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     bodyParam = fromRequestBody(body, schemaName, schema, schemas, imports);
                     if (foundSchemas.isEmpty()) {
                         // todo: this segment is only to support the "older" template design. it should be removed once all templates are updated with the new {{#contents}} tag.
-                        bodyParams.add(bodyParam.copy());
+                        bodyParams.add(copyParameter(bodyParam));
                         allParams.add(bodyParam);
                     } else {
                         boolean alreadyAdded = false;
@@ -2130,7 +2832,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         }
                     }
                     foundSchemas.add(schema);
-                    codegenContent.getParameters().add(bodyParam.copy());
+                    codegenContent.getParameters().add(copyParameter(bodyParam));
                     codegenContents.add(codegenContent);
                 }
             }
@@ -2171,18 +2873,18 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 // Issue #2561 (neilotoole) : Moved setting of is<Type>Param flags
                 // from here to fromParameter().
                 if (param instanceof QueryParameter || "query".equalsIgnoreCase(param.getIn())) {
-                    queryParams.add(codegenParameter.copy());
+                    queryParams.add(copyParameter(codegenParameter));
                 } else if (param instanceof PathParameter || "path".equalsIgnoreCase(param.getIn())) {
-                    pathParams.add(codegenParameter.copy());
+                    pathParams.add(copyParameter(codegenParameter));
                 } else if (param instanceof HeaderParameter || "header".equalsIgnoreCase(param.getIn())) {
-                    headerParams.add(codegenParameter.copy());
+                    headerParams.add(copyParameter(codegenParameter));
                 } else if (param instanceof CookieParameter || "cookie".equalsIgnoreCase(param.getIn())) {
-                    cookieParams.add(codegenParameter.copy());
+                    cookieParams.add(copyParameter(codegenParameter));
                 }
                 if (!codegenParameter.required) {
                     codegenOperation.getVendorExtensions().put(CodegenConstants.HAS_OPTIONAL_PARAMS_EXT_NAME, Boolean.TRUE);
                 } else {
-                    requiredParams.add(codegenParameter.copy());
+                    requiredParams.add(copyParameter(codegenParameter));
                 }
             }
         }
@@ -2250,6 +2952,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     public CodegenResponse fromResponse(String responseCode, ApiResponse response) {
         final CodegenResponse codegenResponse = CodegenModelFactory.newInstance(CodegenModelType.RESPONSE);
+        codegenResponse.vendorExtensions = new CompactVendorExtensions(codegenResponse.vendorExtensions);
         if ("default".equals(responseCode)) {
             codegenResponse.code = "0";
         } else {
@@ -2259,15 +2962,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenResponse.schema = responseSchema;
         codegenResponse.message = escapeText(response.getDescription());
         // TODO: codegenResponse.examples = toExamples(response.getExamples());
-        codegenResponse.jsonSchema = Json.pretty(response);
+        codegenResponse.jsonSchema = toJsonSchema(response);
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             codegenResponse.vendorExtensions.putAll(response.getExtensions());
         }
-        Map<String, Header> componentHeaders = null;
-        if ((openAPI != null) && (openAPI.getComponents() != null)) {
-            componentHeaders = openAPI.getComponents().getHeaders();
-        }
-        addHeaders(response, codegenResponse.headers, componentHeaders);
+        addHeaders(response, codegenResponse.headers, openAPI);
         codegenResponse.getVendorExtensions().put(CodegenConstants.HAS_HEADERS_EXT_NAME, !codegenResponse.headers.isEmpty());
 
         if (responseSchema != null) {
@@ -2352,13 +3051,14 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     public CodegenParameter fromParameter(Parameter parameter, Set<String> imports) {
         CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+        codegenParameter.vendorExtensions = new CompactVendorExtensions(codegenParameter.vendorExtensions);
         codegenParameter.baseName = parameter.getName();
         codegenParameter.description = escapeText(parameter.getDescription());
         codegenParameter.unescapedDescription = parameter.getDescription();
         if (parameter.getRequired() != null) {
             codegenParameter.required = parameter.getRequired();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.jsonSchema = toJsonSchema(parameter);
 
         if (System.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter " + parameter.getName());
@@ -2558,12 +3258,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         // should be overridden by lang codegen
         setParameterExampleValue(codegenParameter);
 
-        postProcessParameter(codegenParameter);
+        profiledPostProcessParameter(codegenParameter);
         return codegenParameter;
     }
 
     public CodegenParameter fromRequestBody(RequestBody body, String name, Schema schema, Map<String, Schema> schemas, Set<String> imports) {
         CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+        codegenParameter.vendorExtensions = new CompactVendorExtensions(codegenParameter.vendorExtensions);
         codegenParameter.baseName = REQUEST_BODY_NAME;
         codegenParameter.paramName = REQUEST_BODY_NAME;
         codegenParameter.description = body.getDescription();
@@ -2571,7 +3272,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenParameter.required = body.getRequired() != null ? body.getRequired() : Boolean.FALSE;
         codegenParameter.getVendorExtensions().put(CodegenConstants.IS_BODY_PARAM_EXT_NAME, Boolean.TRUE);
 
-        codegenParameter.jsonSchema = Json.pretty(body);
+        codegenParameter.jsonSchema = toJsonSchema(body);
 
         if (body.getContent() != null && !body.getContent().isEmpty()) {
             Object example = new ArrayList<>(body.getContent().values()).get(0).getExample();
@@ -2590,7 +3291,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             schema = getSchemaFromBody(body);
         }
         if (StringUtils.isNotBlank(schema.get$ref())) {
-            name = OpenAPIUtil.getSimpleRef(schema.get$ref());
+            name = getRefIndex().getName(schema.get$ref());
             schema = schemas.get(name);
         }
         if (isObjectSchema(schema)) {
@@ -2677,7 +3378,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             }
         }
         setParameterExampleValue(codegenParameter);
-        postProcessParameter(codegenParameter);
+        profiledPostProcessParameter(codegenParameter);
         return codegenParameter;
     }
 
@@ -2790,14 +3491,47 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected void setReservedWordsLowerCase(List<String> words) {
-        reservedWords = new HashSet<String>();
-        for (String word : words) {
-            reservedWords.add(word.toLowerCase());
-        }
+        shareReservedWords(LowerCaseWords.of(words));
+    }
+
+    /**
+     * Uses the given reserved words, usually a constant shared by every instance of the generator, which is only
+     * copied if the generator changes its reserved words.
+     */
+    protected void shareReservedWords(LowerCaseWords words) {
+        reservedWords = new SharedSet<>(words);
+    }
+
+    /**
+     * Uses the given unmodifiable language specific primitives, see {@link #shareReservedWords}.
+     */
+    protected void shareLanguageSpecificPrimitives(Set<String> primitives) {
+        languageSpecificPrimitives = new SharedSet<>(primitives);
+    }
+
+    /**
+     * Uses the given unmodifiable type mapping, see {@link #shareReservedWords}.
+     */
+    protected void shareTypeMapping(Map<String, String> mapping) {
+        typeMapping = new SharedMap<>(mapping);
+    }
+
+    /**
+     * Uses the given unmodifiable instantiation types, see {@link #shareReservedWords}.
+     */
+    protected void shareInstantiationTypes(Map<String, String> types) {
+        instantiationTypes = new SharedMap<>(types);
     }
 
     protected boolean isReservedWord(String word) {
-        return word != null && reservedWords.contains(word.toLowerCase());
+        if (word == null) {
+            return false;
+        }
+        final Set<String> words = reservedWords instanceof SharedSet ? ((SharedSet<String>) reservedWords).getShared() : null;
+        if (words instanceof LowerCaseWords) {
+            return ((LowerCaseWords) words).containsIgnoreCase(word);
+        }
+        return reservedWords.contains(word.toLowerCase());
     }
 
     /**
@@ -2863,14 +3597,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return output;
     }
 
-    private void addHeaders(ApiResponse response, List<CodegenProperty> target, Map<String, Header> componentHeaders) {
+    private void addHeaders(ApiResponse response, List<CodegenProperty> target, OpenAPI openAPI) {
         if (response.getHeaders() != null) {
             for (Map.Entry<String, Header> headers : response.getHeaders().entrySet()) {
                 Header header = headers.getValue();
+                Header componentHeader = null;
+                if (header.get$ref() != null && openAPI != null) {
+                    componentHeader = getRefIndex(openAPI).getHeader(header.get$ref());
+                }
                 Schema schema;
-                if ((header.get$ref() != null) && (componentHeaders != null)) {
-                    String ref = OpenAPIUtil.getSimpleRef(header.get$ref());
-                    schema = componentHeaders.get(ref).getSchema();
+                if (componentHeader != null) {
+                    schema = componentHeader.getSchema();
                 } else {
                     schema = header.getSchema();
                 }
@@ -2879,6 +3616,27 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
     }
 
+    /**
+     * Copies the parameter for one of the parameter lists of an operation, sharing its vendor extensions with the
+     * other copies (see {@link SharedVendorExtensions}).
+     */
+    private static CodegenParameter copyParameter(CodegenParameter codegenParameter) {
+        if (!(codegenParameter.vendorExtensions instanceof SharedVendorExtensions)) {
+            codegenParameter.vendorExtensions = new SharedVendorExtensions(codegenParameter.vendorExtensions);
+        }
+        final SharedVendorExtensions vendorExtensions = (SharedVendorExtensions) codegenParameter.vendorExtensions;
+        // copy() would copy the vendor extensions entry by entry, only to be replaced.
+        codegenParameter.vendorExtensions = null;
+        final CodegenParameter copy;
+        try {
+            copy = codegenParameter.copy();
+        } finally {
+            codegenParameter.vendorExtensions = vendorExtensions;
+        }
+        copy.vendorExtensions = vendorExtensions.copy();
+        return copy;
+    }
+
     private static List<CodegenParameter> addHasMore(List<CodegenParameter> objs) {
         if (objs != null) {
             for (int i = 0; i < objs.size(); i++) {
@@ -2920,18 +3678,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             operations.put(tag, opList);
         }
         // check for operationId uniqueness
-
-        String uniqueName = co.operationId;
-        int counter = 0;
-        for(CodegenOperation op : opList) {
-            if(uniqueName.equals(op.operationId)) {
-                uniqueName = co.operationId + "_" + counter;
-                counter ++;
-            }
-        }
+        String uniqueName = operationIdIndex.uniqueOperationId(operations, tag, opList, co.operationId);
         if(!co.operationId.equals(uniqueName)) {
             LOGGER.warn("generated unique operationId `" + uniqueName + "`");
         }
+        if (incrementalGeneration) {
+            getIncrementalGeneration().addOperation(tag, resourcePath, co.httpMethod, operation);
+        }
         co.operationId = uniqueName;
         co.operationIdLowerCase = uniqueName.toLowerCase();
         co.operationIdCamelCase = camelize(uniqueName);
@@ -2964,21 +3717,36 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        // Single pass equivalent of the original replacement chain:
+        //   "." -> "/", "$" -> "__", "([A-Z]+)([A-Z][a-z])" -> "$1_$2", "([a-z\\d])([A-Z])" -> "$1_$2",
+        //   "-" -> "_", " " -> "_" and finally toLowerCase().
+        final int length = word.length();
+        final StringBuilder builder = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            final char c = word.charAt(i);
+            if (i > 0 && isAsciiUpper(c)) {
+                final char previous = word.charAt(i - 1);
+                if (isAsciiLower(previous) || isAsciiDigit(previous)
+                        || (isAsciiUpper(previous) && i + 1 < length && isAsciiLower(word.charAt(i + 1)))) {
+                    builder.append('_');
+                }
+            }
+            switch (c) {
+                case '.':
+                    builder.append('/');
+                    break;
+                case '$':
+                    builder.append("__");
+                    break;
+                case '-':
+                case ' ':
+                    builder.append('_');
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase();
     }
 
     /**
@@ -2989,7 +3757,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return underscore(word).replace('_', '-').replace(' ', '-');
     }
 
     /**
@@ -3003,8 +3771,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return The next name for the base name
      */
     private static String generateNextName(String name) {
-        Pattern pattern = Pattern.compile("\\d+\\z");
-        Matcher matcher = pattern.matcher(name);
+        Matcher matcher = TRAILING_NUMBER_PATTERN.matcher(name);
         if (matcher.find()) {
             String numStr = matcher.group();
             int num = Integer.parseInt(numStr) + 1;
@@ -3078,7 +3845,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 if (this.openAPI == null) {
                     LOGGER.warn("open api utility object was not properly set.");
                 } else {
-                    OpenAPIUtil.addPropertiesFromRef(this.openAPI, propertySchema, codegenProperty);
+                    OpenAPIUtil.addPropertiesFromRef(getRefIndex(), propertySchema, codegenProperty);
                 }
             }
 
@@ -3212,21 +3979,130 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
+        if (word == null || !hasPlainAsciiCaseMapping()) {
+            return camelizeWithPatterns(word, lowercaseFirstLetter);
+        }
+        final BoundedCache<String, String> cache = lowercaseFirstLetter ? LOWER_CAMELIZE_CACHE : UPPER_CAMELIZE_CACHE;
+        String camelized = cache.get(word);
+        if (camelized == null) {
+            camelized = canScanCamelize(word) ? scanCamelize(word, lowercaseFirstLetter) : camelizeWithPatterns(word, lowercaseFirstLetter);
+            cache.put(word, camelized);
+        }
+        return camelized;
+    }
+
+    /**
+     * Single pass version of {@link #camelizeWithPatterns(String, boolean)} for the words accepted by
+     * {@link #canScanCamelize(String)}: slashes and dots separate parts whose first letter gets upper cased,
+     * the first word character is upper cased, "_x"/"-x" become "X" and any other underscore or hyphen that
+     * is followed by a character gets dropped.
+     */
+    private static String scanCamelize(String word, boolean lowercaseFirstLetter) {
+        final int length = word.length();
+        final char[] parts = new char[length];
+        int size = 0;
+        boolean partStart = true;
+        int firstWordChar = -1;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+                continue;
+            }
+            if (partStart) {
+                c = Character.toUpperCase(c);
+                partStart = false;
+            }
+            if (firstWordChar < 0 && isAsciiWordChar(c)) {
+                firstWordChar = size;
+                c = Character.toUpperCase(c);
+            }
+            parts[size++] = c;
+        }
+
+        final char[] underscored = new char[size];
+        int underscoredSize = 0;
+        for (int i = 0; i < size; i++) {
+            final char c = parts[i];
+            if (c == '_' && i + 1 < size) {
+                final char next = parts[i + 1];
+                if (isAsciiLower(next)) {
+                    underscored[underscoredSize++] = Character.toUpperCase(next);
+                    i++;
+                }
+                continue;
+            }
+            underscored[underscoredSize++] = c;
+        }
+
+        final char[] camelized = new char[underscoredSize];
+        int camelizedSize = 0;
+        for (int i = 0; i < underscoredSize; i++) {
+            final char c = underscored[i];
+            if (c == '-' && i + 1 < underscoredSize) {
+                final char next = underscored[i + 1];
+                if (next != '-') {
+                    camelized[camelizedSize++] = Character.toUpperCase(next);
+                    i++;
+                }
+                continue;
+            }
+            camelized[camelizedSize++] = c;
+        }
+        if (lowercaseFirstLetter && camelizedSize > 0) {
+            camelized[0] = Character.toLowerCase(camelized[0]);
+        }
+        return new String(camelized, 0, camelizedSize);
+    }
+
+    /**
+     * Whether {@link #scanCamelize(String, boolean)} produces exactly the output of the pattern based
+     * implementation: printable ASCII without the characters that are special in regex replacements and
+     * without more separators than the pattern loops process.
+     */
+    private static boolean canScanCamelize(String word) {
+        int slashes = 0;
+        int underscores = 0;
+        int hyphens = 0;
+        for (int i = 0; i < word.length(); i++) {
+            final char c = word.charAt(i);
+            if (c < ' ' || c > '~' || c == '$' || c == '\\') {
+                return false;
+            }
+            if (c == '/') {
+                slashes++;
+            } else if (c == '_') {
+                underscores++;
+            } else if (c == '-') {
+                hyphens++;
+            }
+        }
+        return slashes <= CAMELIZE_MAX_REPLACEMENTS && underscores <= CAMELIZE_MAX_REPLACEMENTS && hyphens <= CAMELIZE_MAX_REPLACEMENTS;
+    }
+
+    /**
+     * The pattern based implementations upper case with the default locale, which only differs from the
+     * {@link Character} case mapping of ASCII letters for these languages.
+     */
+    private static boolean hasPlainAsciiCaseMapping() {
+        final String language = Locale.getDefault().getLanguage();
+        return !"tr".equals(language) && !"az".equals(language) && !"lt".equals(language);
+    }
+
+    private static String camelizeWithPatterns(String word, boolean lowercaseFirstLetter) {
         // Replace all slashes with dots (package separator)
         String originalWord = word;
         LOGGER.trace("camelize start - " + originalWord);
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
+        Matcher m = CAMELIZE_SLASH_PATTERN.matcher(word);
         int i = 0;
-        int MAX = 100;
         while (m.find()) {
-            if (i > MAX) {
+            if (i > CAMELIZE_MAX_REPLACEMENTS) {
                 LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
                 break;
             }
             i++;
             word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
+            m = CAMELIZE_SLASH_PATTERN.matcher(word);
         }
         i = 0;
         // case out dots
@@ -3239,20 +4115,19 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
         word = f.toString();
 
-        m = p.matcher(word);
+        m = CAMELIZE_SLASH_PATTERN.matcher(word);
         while (m.find()) {
-            if (i > MAX) {
+            if (i > CAMELIZE_MAX_REPLACEMENTS) {
                 LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
                 break;
             }
             i++;
             word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
+            m = CAMELIZE_SLASH_PATTERN.matcher(word);
         }
         i = 0;
         // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
+        m = CAMELIZE_CLASS_NAME_PATTERN.matcher(word);
         if (m.find()) {
             String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
             rep = rep.replaceAll("\\$", "\\\\\\$");
@@ -3260,10 +4135,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
 
         // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
+        m = CAMELIZE_UNDERSCORE_PATTERN.matcher(word);
         while (m.find()) {
-            if (i > MAX) {
+            if (i > CAMELIZE_MAX_REPLACEMENTS) {
                 LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
                 break;
             }
@@ -3275,21 +4149,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             } else {
                 word = m.replaceFirst(upperCase);
             }
-            m = p.matcher(word);
+            m = CAMELIZE_UNDERSCORE_PATTERN.matcher(word);
         }
 
         // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
+        m = CAMELIZE_HYPHEN_PATTERN.matcher(word);
         i = 0;
         while (m.find()) {
-            if (i > MAX) {
+            if (i > CAMELIZE_MAX_REPLACEMENTS) {
                 LOGGER.error("camelize reached find limit - {} / {}", originalWord, word);
                 break;
             }
             i++;
             word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
+            m = CAMELIZE_HYPHEN_PATTERN.matcher(word);
         }
 
         if (lowercaseFirstLetter && word.length() > 0) {
@@ -3299,6 +4172,22 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return word;
     }
 
+    private static boolean isAsciiWordChar(char c) {
+        return isAsciiLower(c) || isAsciiUpper(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    private static boolean isAsciiLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isAsciiUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     public String apiFilename(String templateName, String tag) {
         String suffix = apiTemplateFiles().get(templateName);
         return apiFileFolder() + '/' + toApiFilename(tag) + suffix;
@@ -3331,7 +4220,17 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     public boolean shouldOverwrite(String filename) {
-        return !(skipOverwrite && new File(filename).exists());
+        if (skipOverwrite && new File(filename).exists()) {
+            return false;
+        }
+        if (incrementalGeneration) {
+            if (getIncrementalGeneration().isUpToDate(filename)) {
+                LOGGER.debug("inputs of " + filename + " did not change since the previous run");
+                return false;
+            }
+            getIncrementalGeneration().rendered(filename);
+        }
+        return true;
     }
 
     public boolean isSkipOverwrite() {
@@ -3342,6 +4241,161 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         this.skipOverwrite = skipOverwrite;
     }
 
+    public int getConversionParallelism() {
+        return conversionParallelism;
+    }
+
+    /**
+     * Converts models ahead of time with the given number of threads, only used by generators that
+     * {@link #isParallelConversionSupported() support it}.
+     *
+     * @param conversionParallelism number of threads, values below 1 use all available processors
+     */
+    public void setConversionParallelism(int conversionParallelism) {
+        this.conversionParallelism = conversionParallelism < 1 ? Runtime.getRuntime().availableProcessors() : conversionParallelism;
+    }
+
+    public boolean isStreamingExamples() {
+        return streamingExamples;
+    }
+
+    public void setStreamingExamples(boolean streamingExamples) {
+        this.streamingExamples = streamingExamples;
+    }
+
+    public boolean isXmlExamples() {
+        return xmlExamples;
+    }
+
+    public void setXmlExamples(boolean xmlExamples) {
+        this.xmlExamples = xmlExamples;
+    }
+
+    public int getStreamingGenerationThreshold() {
+        return streamingGenerationThreshold;
+    }
+
+    /**
+     * @param streamingGeneration <code>true</code>, <code>false</code> or the size of the spec (number of schemas
+     *                            and operations) from which the models and operations are released once rendered
+     * @throws NumberFormatException if it is neither a boolean nor a number
+     */
+    public void setStreamingGeneration(String streamingGeneration) {
+        if (StringUtils.isBlank(streamingGeneration) || Boolean.FALSE.toString().equalsIgnoreCase(streamingGeneration)) {
+            this.streamingGenerationThreshold = -1;
+        } else if (Boolean.TRUE.toString().equalsIgnoreCase(streamingGeneration)) {
+            this.streamingGenerationThreshold = 0;
+        } else {
+            this.streamingGenerationThreshold = Math.max(0, Integer.parseInt(streamingGeneration.trim()));
+        }
+    }
+
+    /**
+     * @return whether the models and operations of the current spec are released once rendered
+     */
+    public boolean isStreamingGeneration() {
+        if (streamingGenerationThreshold <= 0) {
+            return streamingGenerationThreshold == 0;
+        }
+        if (openAPI == null) {
+            return false;
+        }
+        if (measuredOpenAPI != openAPI) {
+            int specSize = 0;
+            if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+                specSize += openAPI.getComponents().getSchemas().size();
+            }
+            if (openAPI.getPaths() != null) {
+                for (PathItem pathItem : openAPI.getPaths().values()) {
+                    specSize += pathItem.readOperations().size();
+                }
+            }
+            measuredSpecSize = specSize;
+            measuredOpenAPI = openAPI;
+        }
+        return measuredSpecSize >= streamingGenerationThreshold;
+    }
+
+    /**
+     * Enables the generation profile in the given format, <code>false</code> disables it.
+     *
+     * @param format <code>json</code> (or <code>true</code>), <code>csv</code> or <code>false</code>
+     */
+    public void setProfileGeneration(String format) {
+        if (StringUtils.isBlank(format) || Boolean.FALSE.toString().equalsIgnoreCase(format)) {
+            this.generationProfiler = null;
+            return;
+        }
+        this.generationProfiler = new GenerationProfiler(getClass(), format);
+        generationProfiler.addHook("preprocessOpenAPI", OpenAPI.class);
+        generationProfiler.addHook("fromModel", String.class, Schema.class, Map.class);
+        generationProfiler.addHook("postProcessAllModels", Map.class);
+        generationProfiler.addHook("postProcessModels", Map.class);
+        generationProfiler.addHook("fromOperation", String.class, String.class, Operation.class, Map.class, OpenAPI.class);
+        generationProfiler.addHook("postProcessOperationsWithModels", Map.class, List.class);
+        generationProfiler.addHook("postProcessSupportingFileData", Map.class);
+        generationProfiler.addHook("postProcessModelProperty", CodegenModel.class, CodegenProperty.class);
+        generationProfiler.addHook("postProcessParameter", CodegenParameter.class);
+    }
+
+    public GenerationProfiler getGenerationProfiler() {
+        return generationProfiler;
+    }
+
+    private GenerationProfiler.Sample profileHook(String method) {
+        if (generationProfiler == null) {
+            return GenerationProfiler.noSample();
+        }
+        return generationProfiler.start(method);
+    }
+
+    private void profiledPostProcessParameter(CodegenParameter codegenParameter) {
+        final GenerationProfiler.Sample sample = profileHook("postProcessParameter");
+        try {
+            postProcessParameter(codegenParameter);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    protected IncrementalGeneration getIncrementalGeneration() {
+        if (incrementalGenerationManifest == null) {
+            incrementalGenerationManifest = new IncrementalGeneration(this);
+        }
+        return incrementalGenerationManifest;
+    }
+
+    public boolean isSkipJsonSchema() {
+        return skipJsonSchema;
+    }
+
+    public void setSkipJsonSchema(boolean skipJsonSchema) {
+        this.skipJsonSchema = skipJsonSchema;
+    }
+
+    /**
+     * Pretty printed JSON for the {@code modelJson}/{@code jsonSchema} fields, null when
+     * {@link #SKIP_JSON_SCHEMA} is set. Nested schemas are serialized again at every level, so on large
+     * specs this is one of the most expensive (and memory hungry) steps of the conversion.
+     *
+     * @param value schema, parameter, response or request body
+     * @return JSON representation of the value
+     */
+    protected String toJsonSchema(Object value) {
+        if (skipJsonSchema) {
+            return null;
+        }
+        return Json.pretty(value);
+    }
+
     public boolean isRemoveOperationIdPrefix() {
         return removeOperationIdPrefix;
     }
@@ -3495,47 +4549,52 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (maybeHandleEmptyName(name)) return Object.class.getSimpleName();
 
         // if the name is just '$', map it to 'value' for the time being.
         if (maybeHandleDollarName(name)) return "value";
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
+        return getSanitizationRules().sanitize(name);
+    }
 
-        // remove everything else other than word, number and _
+    /**
+     * Replacements applied by {@link #sanitizeName(String)}, before everything else other than word,
+     * number and _ gets removed. Override to add language specific rules, the table is compiled once
+     * per generator and applied in a single pass (see {@link SanitizationRules}).
+     *
+     * @return builder with the sanitization rules of this generator
+     */
+    protected SanitizationRules.Builder sanitizationRules() {
+        return SanitizationRules.builder()
+                // input[] => input
+                .remove("[]")
+                // input[a][b] => input_a_b
+                .replace("[", "_")
+                .remove("]")
+                // input(a)(b) => input_a_b
+                .replace("(", "_")
+                .remove(")")
+                // input.name => input_name
+                .replace(".", "_")
+                // input-name => input_name
+                .replace("-", "_")
+                // input name and age => input_name_and_age
+                .replace(" ", "_");
+    }
+
+    protected SanitizationRules getSanitizationRules() {
         // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        if (Boolean.TRUE.equals(allowUnicodeIdentifiers)) {
+            if (unicodeSanitizationRules == null) {
+                unicodeSanitizationRules = sanitizationRules().nonWordCharacters(SanitizationRules.NonWordCharacters.REMOVE_UNICODE).build();
+            }
+            return unicodeSanitizationRules;
         }
-        else {
-            name = name.replaceAll("\\W", "");
+        if (sanitizationRules == null) {
+            sanitizationRules = sanitizationRules().nonWordCharacters(SanitizationRules.NonWordCharacters.REMOVE).build();
         }
-
-        return name;
+        return sanitizationRules;
     }
 
     private boolean maybeHandleDollarName(String name) {
@@ -3572,6 +4631,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public void addHandlebarHelpers(Handlebars handlebars) {
+        handlebars.with(new CompiledTemplateCache(getClass(), templateDir(), embeddedTemplateDir(), getLibrary(), handlebars.getLoader()));
         handlebars.registerHelper(IsHelper.NAME, new IsHelper());
         handlebars.registerHelper(HasHelper.NAME, new HasHelper());
         handlebars.registerHelper(IsNotHelper.NAME, new IsNotHelper());
@@ -3582,12 +4642,45 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         handlebars.registerHelpers(new StringUtilHelper());
     }
 
+    /**
+     * Reads the arguments of {@link #getArgumentsLocation()}. The resource is parsed once per generator class, every
+     * call returns new {@link CodegenArgument} instances as the values are set on them.
+     */
     @Override
     public List<CodegenArgument> readLanguageArguments() {
         final String argumentsLocation = getArgumentsLocation();
         if (StringUtils.isBlank(argumentsLocation)) {
             return null;
         }
+        final JsonNode arguments = LANGUAGE_ARGUMENTS_CACHE
+                .computeIfAbsent(getClass(), type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(argumentsLocation, location -> Optional.ofNullable(parseLanguageArguments(location)))
+                .orElse(null);
+        if (arguments == null) {
+            return null;
+        }
+        List<CodegenArgument> languageArguments = new ArrayList<>();
+        for (JsonNode argument : arguments) {
+            String option = argument.findValue("option") != null ? argument.findValue("option").textValue() : null;
+            String description = argument.findValue("description") != null ? argument.findValue("description").textValue() : null;
+            String shortOption = argument.findValue("shortOption") != null ? argument.findValue("shortOption").textValue() : null;
+            String type = argument.findValue("type") != null ? argument.findValue("type").textValue() : "string";
+            boolean isArray = argument.findValue("isArray") != null ? argument.findValue("isArray").booleanValue() : false;
+
+            languageArguments.add(new CodegenArgument()
+                    .option(option)
+                    .shortOption(shortOption)
+                    .description(description)
+                    .type(type)
+                    .isArray(isArray));
+        }
+        return languageArguments;
+    }
+
+    /**
+     * @return the <code>arguments</code> array of the resource, <code>null</code> if there is none
+     */
+    private JsonNode parseLanguageArguments(String argumentsLocation) {
         final InputStream inputStream = getClass().getResourceAsStream(argumentsLocation);
         if (inputStream == null) {
             return null;
@@ -3601,6 +4694,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         } catch (IOException e) {
             LOGGER.error("Could not read arguments for java language.", e);
             return null;
+        } finally {
+            IOUtils.closeQuietly(inputStream);
         }
         final JsonNode rootNode;
         try {
@@ -3616,22 +4711,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (arguments == null || !arguments.isArray()) {
             return null;
         }
-        List<CodegenArgument> languageArguments = new ArrayList<>();
-        for (JsonNode argument : arguments) {
-            String option = argument.findValue("option") != null ? argument.findValue("option").textValue() : null;
-            String description = argument.findValue("description") != null ? argument.findValue("description").textValue() : null;
-            String shortOption = argument.findValue("shortOption") != null ? argument.findValue("shortOption").textValue() : null;
-            String type = argument.findValue("type") != null ? argument.findValue("type").textValue() : "string";
-            boolean isArray = argument.findValue("isArray") != null ? argument.findValue("isArray").booleanValue() : false;
-
-            languageArguments.add(new CodegenArgument()
-                    .option(option)
-                    .shortOption(shortOption)
-                    .description(description)
-                    .type(type)
-                    .isArray(isArray));
-        }
-        return languageArguments;
+        return arguments;
     }
 
     @Override
@@ -3649,17 +4729,24 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     protected String getOptionValue(String optionName) {
         final List<CodegenArgument> codegenArguments = getLanguageArguments();
-        if (codegenArguments == null || codegenArguments.isEmpty()) {
+        if (codegenArguments == null || codegenArguments.isEmpty() || optionName == null) {
             return null;
         }
-        Optional<CodegenArgument> codegenArgumentOptional = codegenArguments
-            .stream()
-            .filter(argument -> argument.getOption().equalsIgnoreCase(optionName))
-            .findAny();
-        if (!codegenArgumentOptional.isPresent()) {
-            return null;
+        Map<String, CodegenArgument> index = languageArgumentsIndex;
+        // (re)built when the arguments were replaced or added to, the values are read from the arguments themselves.
+        if (index == null || indexedLanguageArguments != codegenArguments || codegenArguments.size() != indexedLanguageArgumentsSize) {
+            index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (CodegenArgument argument : codegenArguments) {
+                if (argument.getOption() != null) {
+                    index.putIfAbsent(argument.getOption(), argument);
+                }
+            }
+            indexedLanguageArguments = codegenArguments;
+            indexedLanguageArgumentsSize = codegenArguments.size();
+            languageArgumentsIndex = index;
         }
-        return codegenArgumentOptional.get().getValue();
+        final CodegenArgument codegenArgument = index.get(optionName);
+        return codegenArgument == null ? null : codegenArgument.getValue();
     }
 
     /**
@@ -3904,7 +4991,8 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         Schema schema = null;
         for (String contentType : response.getContent().keySet()) {
             schema = response.getContent().get(contentType).getSchema();
-            if (schema != null) {
+            // set once before the operations are converted, the conversions only read it then.
+            if (schema != null && (schema.getExtensions() == null || !contentType.equals(schema.getExtensions().get("x-content-type")))) {
                 schema.addExtension("x-content-type", contentType);
             }
             break;
@@ -3913,9 +5001,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     protected Parameter getParameterFromRef(String ref, OpenAPI openAPI) {
-        String parameterName = ref.substring(ref.lastIndexOf('/') + 1);
-        Map<String, Parameter> parameterMap = openAPI.getComponents().getParameters();
-        return parameterMap.get(parameterName);
+        return getRefIndex(openAPI).getParameter(ref);
     }
 
     protected void setTemplateEngine() {
@@ -3946,26 +5032,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenSecurity.scopes = flow.getScopes();
     }
 
-    private List<Schema> getInterfaces(ComposedSchema composed) {
-        if(composed.getAllOf() != null && composed.getAllOf().size() > 1) {
-            return composed.getAllOf().subList(1, composed.getAllOf().size());
-        } else if(composed.getAnyOf() != null && !composed.getAnyOf().isEmpty()) {
-            return composed.getAnyOf();
-        } else if(composed.getOneOf() != null && !composed.getOneOf().isEmpty()) {
-            return composed.getOneOf();
-        } else {
-            return null;
-        }
-    }
-
     protected void addConsumesInfo(Operation operation, CodegenOperation codegenOperation, OpenAPI openAPI) {
         RequestBody body = operation.getRequestBody();
         if (body == null) {
             return;
         }
         if (StringUtils.isNotBlank(body.get$ref())) {
-            String bodyName = OpenAPIUtil.getSimpleRef(body.get$ref());
-            body = openAPI.getComponents().getRequestBodies().get(bodyName);
+            body = getRefIndex(openAPI).getRequestBody(body.get$ref());
         }
 
         if (body.getContent() == null || body.getContent().isEmpty()) {
@@ -4079,6 +5152,27 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
 
+    /**
+     * JSON examples are always generated, XML examples only if {@link #XML_EXAMPLES enabled} and for the XML media
+     * types the operation produces.
+     */
+    private List<String> getExampleMediaTypes(CodegenOperation codegenOperation) {
+        if (!xmlExamples) {
+            return null;
+        }
+        final List<String> mediaTypes = new ArrayList<>();
+        mediaTypes.add("application/json");
+        if (codegenOperation.produces != null) {
+            for (Map<String, String> produces : codegenOperation.produces) {
+                final String mediaType = produces.get("mediaType");
+                if (mediaType != null && mediaType.startsWith("application/xml") && !mediaTypes.contains(mediaType)) {
+                    mediaTypes.add(mediaType);
+                }
+            }
+        }
+        return mediaTypes;
+    }
+
     protected Set<String> getProducesInfo(Operation operation) {
         if(operation.getResponses() == null || operation.getResponses().isEmpty()) {
             return null;
@@ -4093,7 +5187,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if (StringUtils.isBlank(ref)) {
                 return null;
             }
-            ref = OpenAPIUtil.getSimpleRef(ref);
+            ref = getRefIndex().getName(ref);
             return allSchemas.get(ref);
         }
         return null;
@@ -4106,7 +5200,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if (StringUtils.isBlank(ref)) {
                 return null;
             }
-            return OpenAPIUtil.getSimpleRef(ref);
+            return getRefIndex().getName(ref);
         }
         return null;
     }
@@ -4144,7 +5238,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return true;
         }
         if (StringUtils.isNotBlank(schema.get$ref())) {
-            Schema refSchema = OpenAPIUtil.getSchemaFromRefSchema(schema, openAPI);
+            Schema refSchema = getRefIndex().getSchema(schema.get$ref());
             if (refSchema != null) {
                 return isObjectSchema(refSchema);
             }
@@ -4211,7 +5305,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return;
         }
         for (CodegenParameter codegenParameter : codegenParameters) {
-            codegenContent.getParameters().add(codegenParameter.copy());
+            codegenContent.getParameters().add(copyParameter(codegenParameter));
         }
     }
 
@@ -0,0 +1,247 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times the phases of a generation: the hooks of {@link DefaultCodegenConfig} called by the generator and the
+ * rendering of every template. For each phase the number of calls, the total and maximum time and, where the JVM
+ * supports it, the bytes allocated by the calling thread are recorded. Times are inclusive, e.g. the models looked
+ * up while converting an operation count for both <code>fromOperation</code> and <code>fromModel</code>.
+ *
+ * The hooks {@link DefaultCodegenConfig} calls itself while converting, like <code>postProcessModelProperty</code>, are
+ * timed around the call, overrides included. Those the generator calls directly are timed from within the default
+ * implementation, an override is listed (see <code>implementedBy</code> in the report) but the time it spends besides
+ * the default implementation only shows up in the total time of the run. The report is written at the end of the
+ * run, when the generator processes the spec.
+ */
+public class GenerationProfiler {
+
+    public static final String REPORT_FILE = ".swagger-codegen" + File.separator + "generation-profile";
+    public static final String JSON = "json";
+    public static final String CSV = "csv";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationProfiler.class);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATIONS_SUPPORTED = isAllocationsSupported();
+    private static final Sample NO_SAMPLE = new Sample(null, 0L, 0L);
+
+    private final Class<?> generatorClass;
+    private final String format;
+    private final long started = System.nanoTime();
+    private final Map<String, Phase> phases = new ConcurrentHashMap<>();
+
+    /**
+     * @param format {@link #JSON} or {@link #CSV}
+     */
+    public GenerationProfiler(Class<?> generatorClass, String format) {
+        this.generatorClass = generatorClass;
+        this.format = CSV.equalsIgnoreCase(format) ? CSV : JSON;
+    }
+
+    /**
+     * Adds a hook of the generator to the report, even if it is never called (or overridden without calling the
+     * default implementation).
+     */
+    public void addHook(String method, Class<?>... parameterTypes) {
+        phases.computeIfAbsent(method, name -> new Phase(name, implementedBy(name, parameterTypes)));
+    }
+
+    /**
+     * Starts timing a call of a hook or any other phase, like the rendering of a template.
+     */
+    public Sample start(String phaseName) {
+        final Phase phase = phases.computeIfAbsent(phaseName, name -> new Phase(name, null));
+        return new Sample(phase, System.nanoTime(), allocatedBytes());
+    }
+
+    /**
+     * @return a sample whose {@link Sample#stop()} does nothing, for disabled profiling
+     */
+    public static Sample noSample() {
+        return NO_SAMPLE;
+    }
+
+    /**
+     * @return the phases, slowest first
+     */
+    public List<Phase> getPhases() {
+        // sorted on a snapshot, phases may still be recorded.
+        final Map<Phase, Long> nanos = new LinkedHashMap<>();
+        for (Phase phase : phases.values()) {
+            nanos.put(phase, phase.getNanos());
+        }
+        final List<Phase> sorted = new ArrayList<>(nanos.keySet());
+        sorted.sort((first, second) -> Long.compare(nanos.get(second), nanos.get(first)));
+        return sorted;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Writes the report to {@link #REPORT_FILE} in the given output folder.
+     */
+    public void save(String outputFolder) {
+        final File report = new File(outputFolder, REPORT_FILE + "." + format);
+        try {
+            FileUtils.writeStringToFile(report, CSV.equals(format) ? toCsv() : toJson(), StandardCharsets.UTF_8);
+            LOGGER.info("generation profile written to " + report);
+        } catch (IOException e) {
+            LOGGER.warn("could not write generation profile " + report, e);
+        }
+    }
+
+    public String toJson() {
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generator", generatorClass.getName());
+        report.put("totalMillis", millis(System.nanoTime() - started));
+        report.put("allocationsMeasured", ALLOCATIONS_SUPPORTED);
+        final List<Map<String, Object>> entries = new ArrayList<>();
+        for (Phase phase : getPhases()) {
+            final Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("phase", phase.getName());
+            entry.put("calls", phase.getCalls());
+            entry.put("totalMillis", millis(phase.getNanos()));
+            entry.put("maxMillis", millis(phase.getMaxNanos()));
+            entry.put("allocatedBytes", ALLOCATIONS_SUPPORTED ? phase.getAllocatedBytes() : null);
+            entry.put("implementedBy", phase.getImplementedBy());
+            entries.add(entry);
+        }
+        report.put("phases", entries);
+        return Json.pretty(report);
+    }
+
+    public String toCsv() {
+        final StringBuilder builder = new StringBuilder("phase,calls,totalMillis,maxMillis,allocatedBytes,implementedBy\n");
+        for (Phase phase : getPhases()) {
+            builder.append(csvValue(phase.getName())).append(',')
+                    .append(phase.getCalls()).append(',')
+                    .append(String.format(Locale.ROOT, "%.3f", millis(phase.getNanos()))).append(',')
+                    .append(String.format(Locale.ROOT, "%.3f", millis(phase.getMaxNanos()))).append(',')
+                    .append(ALLOCATIONS_SUPPORTED ? String.valueOf(phase.getAllocatedBytes()) : "").append(',')
+                    .append(csvValue(phase.getImplementedBy())).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return the class declaring the implementation of the hook the generator runs
+     */
+    private String implementedBy(String method, Class<?>... parameterTypes) {
+        try {
+            return generatorClass.getMethod(method, parameterTypes).getDeclaringClass().getName();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000d) / 1_000d;
+    }
+
+    private static long allocatedBytes() {
+        if (!ALLOCATIONS_SUPPORTED) {
+            return 0L;
+        }
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean isAllocationsSupported() {
+        try {
+            return THREADS instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported()
+                    && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemoryEnabled();
+        } catch (UnsupportedOperationException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static class Sample {
+        private final Phase phase;
+        private final long started;
+        private final long allocated;
+
+        private Sample(Phase phase, long started, long allocated) {
+            this.phase = phase;
+            this.started = started;
+            this.allocated = allocated;
+        }
+
+        public void stop() {
+            if (phase != null) {
+                phase.record(System.nanoTime() - started, allocatedBytes() - allocated);
+            }
+        }
+    }
+
+    public static class Phase {
+        private final String name;
+        private final String implementedBy;
+        private long calls;
+        private long nanos;
+        private long maxNanos;
+        private long allocatedBytes;
+
+        private Phase(String name, String implementedBy) {
+            this.name = name;
+            this.implementedBy = implementedBy;
+        }
+
+        private synchronized void record(long elapsed, long allocated) {
+            calls++;
+            nanos += elapsed;
+            maxNanos = Math.max(maxNanos, elapsed);
+            allocatedBytes += Math.max(0L, allocated);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getImplementedBy() {
+            return implementedBy;
+        }
+
+        public synchronized long getCalls() {
+            return calls;
+        }
+
+        public synchronized long getNanos() {
+            return nanos;
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
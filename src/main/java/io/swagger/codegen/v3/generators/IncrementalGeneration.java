@@ -0,0 +1,526 @@
+package io.swagger.codegen.v3.generators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the manifest of input fingerprints used by the incremental generation mode. Every model and API file
+ * gets a fingerprint of everything its content is rendered from: the schema and the schemas it references, the
+ * operations of the tag, the template and the generator settings, following references transitively. Models also
+ * depend on every schema referencing them, directly or not (allOf children, oneOf/anyOf parents, discriminator
+ * mappings, properties), as the cross model post-processing (interfaces, parent/child wiring) changes a model when
+ * those do. A file whose fingerprint did not change since the previous run (and which still exists) is not rendered
+ * again.
+ *
+ * The fingerprint of a rendered file is appended to a journal once the file was written, which is checked on the
+ * next call to the manifest, so the next run sees it even when the generation does not end with {@link #save()},
+ * which compacts the journal into the manifest. Files whose rendering failed (or was interrupted) are not recorded
+ * and rendered again by the next run.
+ *
+ * Supporting files and API files of generators that group operations without {@link DefaultCodegenConfig#addOperationToGroup}
+ * are not tracked and always regenerated.
+ */
+public class IncrementalGeneration {
+
+    public static final String MANIFEST_FILE = ".swagger-codegen" + File.separator + "incremental-manifest.json";
+    public static final String JOURNAL_FILE = ".swagger-codegen" + File.separator + "incremental-journal";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalGeneration.class);
+    private static final Pattern SCHEMA_REF_PATTERN = Pattern.compile("\"#/components/schemas/([^\"]+)\"");
+    // properties that change on every run without changing the generated content (unless timestamps are rendered).
+    private static final Set<String> VOLATILE_PROPERTIES = new HashSet<>(Arrays.asList("generatedDate", "generatedYear"));
+
+    private final DefaultCodegenConfig codegenConfig;
+
+    private Map<String, Schema> definitions;
+    private final Map<String, String> schemaHashes = new HashMap<>();
+    private final Map<String, Set<String>> schemaReferences = new HashMap<>();
+    private final Map<String, Set<String>> schemaReferrers = new HashMap<>();
+    private final Set<String> models = new LinkedHashSet<>();
+    private final Map<String, List<String>> tagOperations = new LinkedHashMap<>();
+    private final Map<String, String> templateHashes = new HashMap<>();
+    private String globalFingerprint;
+    private String componentsFingerprint;
+    private Set<String> componentsReferences;
+    private Map<String, String> fileFingerprints;
+    private Map<String, String> previousFingerprints;
+    private final Map<String, String> writtenFingerprints = new HashMap<>();
+    private RenderedFile pendingFile;
+
+    public IncrementalGeneration(DefaultCodegenConfig codegenConfig) {
+        this.codegenConfig = codegenConfig;
+    }
+
+    public void addModel(String name, Map<String, Schema> allDefinitions) {
+        indexDefinitions(allDefinitions);
+        if (models.add(name)) {
+            fileFingerprints = null;
+        }
+    }
+
+    public void addOperation(String tag, String resourcePath, String httpMethod, Operation operation) {
+        if (definitions == null && codegenConfig.openAPI != null && codegenConfig.openAPI.getComponents() != null) {
+            indexDefinitions(codegenConfig.openAPI.getComponents().getSchemas());
+        }
+        tagOperations.computeIfAbsent(tag, key -> new ArrayList<>()).add(resourcePath + ' ' + httpMethod + ' ' + toJson(operation));
+        fileFingerprints = null;
+    }
+
+    /**
+     * @return <code>true</code> if the file exists and was generated from the same inputs by the previous run
+     */
+    public boolean isUpToDate(String filename) {
+        confirmRendered();
+        final String fingerprint = fileFingerprints().get(normalize(filename));
+        if (fingerprint == null || !new File(filename).exists()) {
+            return false;
+        }
+        return fingerprint.equals(previousFingerprints().get(relativize(filename)));
+    }
+
+    /**
+     * Records that the file is about to be rendered from the current inputs. Its fingerprint is journaled by the
+     * next call once the file was written.
+     */
+    public void rendered(String filename) {
+        confirmRendered();
+        final String fingerprint = fileFingerprints().get(normalize(filename));
+        if (fingerprint == null) {
+            return;
+        }
+        // entries of this run must not be taken for the previous ones.
+        previousFingerprints();
+        pendingFile = new RenderedFile(filename, fingerprint);
+    }
+
+    /**
+     * Journals the fingerprint of the file last {@link #rendered(String) rendered} if it was written since.
+     */
+    private void confirmRendered() {
+        final RenderedFile renderedFile = pendingFile;
+        if (renderedFile == null) {
+            return;
+        }
+        pendingFile = null;
+        if (!renderedFile.isWritten()) {
+            LOGGER.debug(renderedFile.filename + " was not written, not recording its inputs");
+            return;
+        }
+        final String filename = relativize(renderedFile.filename);
+        writtenFingerprints.put(filename, renderedFile.fingerprint);
+        final File journal = new File(codegenConfig.outputFolder(), JOURNAL_FILE);
+        try {
+            FileUtils.writeStringToFile(journal, filename + '\t' + renderedFile.fingerprint + '\n', StandardCharsets.UTF_8, true);
+        } catch (IOException e) {
+            LOGGER.warn("could not write incremental generation journal " + journal, e);
+        }
+    }
+
+    /**
+     * Writes the fingerprints of the tracked files written by this run or still up to date to the manifest and
+     * drops the journal.
+     */
+    public void save() {
+        confirmRendered();
+        final Map<String, String> files = new TreeMap<>();
+        for (Map.Entry<String, String> entry : fileFingerprints().entrySet()) {
+            final String filename = relativize(entry.getKey());
+            if (entry.getValue().equals(writtenFingerprints.get(filename))
+                    || (new File(entry.getKey()).exists() && entry.getValue().equals(previousFingerprints().get(filename)))) {
+                files.put(filename, entry.getValue());
+            }
+        }
+        final File manifest = new File(codegenConfig.outputFolder(), MANIFEST_FILE);
+        try {
+            FileUtils.writeStringToFile(manifest, Json.pretty(files), StandardCharsets.UTF_8);
+            FileUtils.deleteQuietly(new File(codegenConfig.outputFolder(), JOURNAL_FILE));
+        } catch (IOException e) {
+            LOGGER.warn("could not write incremental generation manifest " + manifest, e);
+        }
+    }
+
+    private void indexDefinitions(Map<String, Schema> allDefinitions) {
+        if (allDefinitions == null || allDefinitions == definitions) {
+            return;
+        }
+        definitions = allDefinitions;
+        schemaHashes.clear();
+        schemaReferences.clear();
+        schemaReferrers.clear();
+        for (Map.Entry<String, Schema> entry : allDefinitions.entrySet()) {
+            final String json = toJson(entry.getValue());
+            schemaHashes.put(entry.getKey(), hash(json));
+            // $refs anywhere in the schema: properties, items, allOf/oneOf/anyOf and discriminator mappings to refs.
+            final Set<String> references = findSchemaReferences(json);
+            final Discriminator discriminator = entry.getValue().getDiscriminator();
+            if (discriminator != null && discriminator.getMapping() != null) {
+                for (String mapping : discriminator.getMapping().values()) {
+                    // mappings may also name the schema directly.
+                    if (mapping != null && allDefinitions.containsKey(mapping)) {
+                        references.add(mapping);
+                    }
+                }
+            }
+            schemaReferences.put(entry.getKey(), references);
+            for (String reference : references) {
+                schemaReferrers.computeIfAbsent(reference, key -> new TreeSet<>()).add(entry.getKey());
+            }
+        }
+    }
+
+    private Map<String, String> fileFingerprints() {
+        if (fileFingerprints != null) {
+            return fileFingerprints;
+        }
+        final Map<String, String> files = new HashMap<>();
+        for (String name : models) {
+            // referrers change the model through their own schema only, what they reference does not matter.
+            final String fingerprint = hash(globalFingerprint(), "model", name, closureFingerprint(Collections.singleton(name)),
+                    schemasFingerprint(referrerClosure(name)));
+            for (Map.Entry<String, String> template : codegenConfig.modelTemplateFiles().entrySet()) {
+                final String filename = codegenConfig.modelFileFolder() + File.separator + codegenConfig.toModelFilename(name) + template.getValue();
+                files.put(normalize(filename), hash(fingerprint, templateHash(template.getKey())));
+            }
+            for (Map.Entry<String, String> template : codegenConfig.modelTestTemplateFiles().entrySet()) {
+                final String filename = codegenConfig.modelTestFileFolder() + File.separator + codegenConfig.toModelTestFilename(name) + template.getValue();
+                files.put(normalize(filename), hash(fingerprint, templateHash(template.getKey())));
+            }
+            for (Map.Entry<String, String> template : codegenConfig.modelDocTemplateFiles().entrySet()) {
+                final String filename = codegenConfig.modelDocFileFolder() + File.separator + codegenConfig.toModelDocFilename(name) + template.getValue();
+                files.put(normalize(filename), hash(fingerprint, templateHash(template.getKey())));
+            }
+        }
+        for (Map.Entry<String, List<String>> tag : tagOperations.entrySet()) {
+            final Set<String> roots = new LinkedHashSet<>(componentsReferences());
+            final List<String> parts = new ArrayList<>();
+            parts.add(globalFingerprint());
+            parts.add(componentsFingerprint());
+            parts.add("api");
+            parts.add(tag.getKey());
+            for (String operation : tag.getValue()) {
+                parts.add(operation);
+                roots.addAll(findSchemaReferences(operation));
+            }
+            parts.add(closureFingerprint(roots));
+            final String fingerprint = hash(parts.toArray(new String[0]));
+            for (String template : codegenConfig.apiTemplateFiles().keySet()) {
+                files.put(normalize(codegenConfig.apiFilename(template, tag.getKey())), hash(fingerprint, templateHash(template)));
+            }
+            for (String template : codegenConfig.apiTestTemplateFiles().keySet()) {
+                files.put(normalize(codegenConfig.apiTestFilename(template, tag.getKey())), hash(fingerprint, templateHash(template)));
+            }
+            for (String template : codegenConfig.apiDocTemplateFiles().keySet()) {
+                files.put(normalize(codegenConfig.apiDocFilename(template, tag.getKey())), hash(fingerprint, templateHash(template)));
+            }
+        }
+        fileFingerprints = files;
+        return files;
+    }
+
+    /**
+     * @return the schema and every schema referencing it, directly or not
+     */
+    private Set<String> referrerClosure(String name) {
+        final Set<String> visited = new LinkedHashSet<>();
+        final Deque<String> pending = new ArrayDeque<>();
+        pending.add(name);
+        while (!pending.isEmpty()) {
+            final String schema = pending.pop();
+            if (visited.add(schema)) {
+                pending.addAll(schemaReferrers.getOrDefault(schema, Collections.emptySet()));
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Fingerprint of the given schemas and every schema they reference, directly or not.
+     */
+    private String closureFingerprint(Collection<String> roots) {
+        final Set<String> visited = new TreeSet<>();
+        final Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            final String name = pending.pop();
+            if (visited.add(name)) {
+                pending.addAll(schemaReferences.getOrDefault(name, Collections.emptySet()));
+            }
+        }
+        return schemasFingerprint(visited);
+    }
+
+    /**
+     * Fingerprint of the given schemas only.
+     */
+    private String schemasFingerprint(Collection<String> names) {
+        final StringBuilder builder = new StringBuilder();
+        for (String name : new TreeSet<>(names)) {
+            builder.append(name).append('=').append(schemaHashes.get(name)).append('\n');
+        }
+        return hash(builder.toString());
+    }
+
+    /**
+     * Fingerprint of the settings every generated file depends on: the generator, its options and mappings, the
+     * global parts of the spec and the custom templates.
+     */
+    private String globalFingerprint() {
+        if (globalFingerprint != null) {
+            return globalFingerprint;
+        }
+        final List<String> parts = new ArrayList<>();
+        parts.add(codegenConfig.getClass().getName());
+        parts.add(String.valueOf(DefaultCodegenConfig.class.getPackage().getImplementationVersion()));
+        parts.add(codegenConfig.getLibrary());
+        final Map<String, String> properties = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : codegenConfig.additionalProperties().entrySet()) {
+            final Object value = entry.getValue();
+            if (VOLATILE_PROPERTIES.contains(entry.getKey())) {
+                continue;
+            }
+            if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+                properties.put(entry.getKey(), value.toString());
+            }
+        }
+        parts.add(properties.toString());
+        parts.add(new TreeMap<>(codegenConfig.typeMapping()).toString());
+        parts.add(new TreeMap<>(codegenConfig.importMapping()).toString());
+        parts.add(new TreeMap<>(codegenConfig.instantiationTypes()).toString());
+        parts.add(new TreeSet<>(codegenConfig.languageSpecificPrimitives()).toString());
+        parts.add(new TreeSet<>(codegenConfig.reservedWords()).toString());
+        final OpenAPI openAPI = codegenConfig.openAPI;
+        if (openAPI != null) {
+            parts.add(toJson(openAPI.getInfo()));
+            parts.add(toJson(openAPI.getServers()));
+            parts.add(toJson(openAPI.getSecurity()));
+            parts.add(toJson(openAPI.getTags()));
+            parts.add(toJson(openAPI.getExternalDocs()));
+        }
+        final File templateDir = codegenConfig.templateDir() == null ? null : new File(codegenConfig.templateDir());
+        if (templateDir != null && templateDir.isDirectory()) {
+            // custom templates, partials included.
+            final List<File> templates = new ArrayList<>(FileUtils.listFiles(templateDir, null, true));
+            Collections.sort(templates);
+            for (File template : templates) {
+                parts.add(template.getPath());
+                parts.add(read(template.getPath()));
+            }
+        }
+        globalFingerprint = hash(parts.toArray(new String[0]));
+        return globalFingerprint;
+    }
+
+    /**
+     * Fingerprint of the components API files may depend on besides the schemas.
+     */
+    private String componentsFingerprint() {
+        if (componentsFingerprint == null) {
+            final OpenAPI openAPI = codegenConfig.openAPI;
+            final Components components = openAPI == null ? null : openAPI.getComponents();
+            String json = "";
+            if (components != null) {
+                final Components withoutSchemas = new Components();
+                withoutSchemas.setParameters(components.getParameters());
+                withoutSchemas.setResponses(components.getResponses());
+                withoutSchemas.setRequestBodies(components.getRequestBodies());
+                withoutSchemas.setHeaders(components.getHeaders());
+                withoutSchemas.setSecuritySchemes(components.getSecuritySchemes());
+                withoutSchemas.setExamples(components.getExamples());
+                withoutSchemas.setLinks(components.getLinks());
+                withoutSchemas.setCallbacks(components.getCallbacks());
+                withoutSchemas.setExtensions(components.getExtensions());
+                json = toJson(withoutSchemas);
+            }
+            componentsFingerprint = hash(json);
+            componentsReferences = findSchemaReferences(json);
+        }
+        return componentsFingerprint;
+    }
+
+    private Set<String> componentsReferences() {
+        componentsFingerprint();
+        return componentsReferences;
+    }
+
+    /**
+     * Hash of every location the template may be loaded from.
+     */
+    private String templateHash(String templateName) {
+        return templateHashes.computeIfAbsent(templateName, name -> {
+            final List<String> parts = new ArrayList<>();
+            final String library = codegenConfig.getLibrary();
+            for (String dir : Arrays.asList(codegenConfig.templateDir(), codegenConfig.embeddedTemplateDir())) {
+                if (dir == null) {
+                    continue;
+                }
+                if (StringUtils.isNotBlank(library)) {
+                    final String libraryTemplate = dir + File.separator + "libraries" + File.separator + library + File.separator + name;
+                    parts.add(libraryTemplate);
+                    parts.add(read(libraryTemplate));
+                }
+                parts.add(dir + File.separator + name);
+                parts.add(read(dir + File.separator + name));
+            }
+            return hash(parts.toArray(new String[0]));
+        });
+    }
+
+    private Map<String, String> previousFingerprints() {
+        if (previousFingerprints == null) {
+            previousFingerprints = new HashMap<>();
+            final File manifest = new File(codegenConfig.outputFolder(), MANIFEST_FILE);
+            if (manifest.exists()) {
+                try {
+                    previousFingerprints = Json.mapper().readValue(manifest, new TypeReference<Map<String, String>>() {});
+                } catch (IOException e) {
+                    LOGGER.warn("could not read incremental generation manifest " + manifest + ", regenerating all files", e);
+                }
+            }
+            // files rendered by runs that did not get to save the manifest.
+            final File journal = new File(codegenConfig.outputFolder(), JOURNAL_FILE);
+            if (journal.exists()) {
+                try {
+                    for (String line : FileUtils.readLines(journal, StandardCharsets.UTF_8)) {
+                        final int separator = line.lastIndexOf('\t');
+                        if (separator > 0) {
+                            previousFingerprints.put(line.substring(0, separator), line.substring(separator + 1));
+                        }
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("could not read incremental generation journal " + journal, e);
+                }
+            }
+        }
+        return previousFingerprints;
+    }
+
+    private String relativize(String filename) {
+        final Path outputFolder = new File(codegenConfig.outputFolder()).getAbsoluteFile().toPath().normalize();
+        return outputFolder.relativize(new File(filename).getAbsoluteFile().toPath().normalize()).toString().replace('\\', '/');
+    }
+
+    private static String normalize(String filename) {
+        return new File(filename).getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    private static Set<String> findSchemaReferences(String json) {
+        final Set<String> references = new TreeSet<>();
+        final Matcher matcher = SCHEMA_REF_PATTERN.matcher(json);
+        while (matcher.find()) {
+            references.add(matcher.group(1));
+        }
+        return references;
+    }
+
+    /**
+     * Reads a template from the file system or, failing that, from the class path.
+     */
+    private static String read(String location) {
+        try {
+            final File file = new File(location);
+            if (file.isFile()) {
+                return FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+            }
+            final String resource = location.replace('\\', '/');
+            try (InputStream inputStream = IncrementalGeneration.class.getClassLoader().getResourceAsStream(resource.startsWith("/") ? resource.substring(1) : resource)) {
+                return inputStream == null ? "" : IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("could not read template " + location, e);
+            return "";
+        }
+    }
+
+    private static String toJson(Object value) {
+        if (value == null) {
+            return "";
+        }
+        try {
+            return Json.mapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            // no stable fingerprint, make sure the file is regenerated.
+            return e.getMessage() + System.nanoTime();
+        }
+    }
+
+    /**
+     * A file handed out for rendering, with the state it had before.
+     */
+    private static class RenderedFile {
+        private final String filename;
+        private final String fingerprint;
+        private final boolean existed;
+        private final long lastModified;
+        private final long length;
+
+        RenderedFile(String filename, String fingerprint) {
+            final File file = new File(filename);
+            this.filename = filename;
+            this.fingerprint = fingerprint;
+            this.existed = file.exists();
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+        }
+
+        /**
+         * @return <code>true</code> if the file was written since. Rewriting a file with the same length within the
+         * time resolution of the file system is missed, the file is then just rendered again by the next run.
+         */
+        boolean isWritten() {
+            final File file = new File(filename);
+            return file.exists() && (!existed || file.lastModified() != lastModified || file.length() != length);
+        }
+    }
+
+    static String hash(String... parts) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            final StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
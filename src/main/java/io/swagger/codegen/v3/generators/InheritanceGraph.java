@@ -0,0 +1,217 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Inheritance relations of the models of a spec, resolved once per node instead of walking the ancestors again
+ * for every model.
+ *
+ * On the schema side it keeps the properties each schema contributes to the models composed of it (the
+ * properties of its <code>allOf</code> interfaces, recursively) and the discriminator of each model, on the codegen
+ * model side it links parents, interfaces and children. The kept properties are built again when a reference they
+ * were resolved through points to another schema of the map.
+ */
+class InheritanceGraph {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InheritanceGraph.class);
+    private static final Discriminator NO_DISCRIMINATOR = new Discriminator();
+
+    private final Map<String, Schema> allSchemas;
+    private final RefIndex refIndex;
+    private final Map<Schema, InheritedProperties> inheritedProperties = new IdentityHashMap<>();
+    private final Set<Schema> resolving = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Schema, Discriminator> discriminators = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    InheritanceGraph(Map<String, Schema> allSchemas, RefIndex refIndex) {
+        this.allSchemas = allSchemas;
+        this.refIndex = refIndex;
+    }
+
+    boolean isFor(Map<String, Schema> allSchemas) {
+        return this.allSchemas == allSchemas;
+    }
+
+    /**
+     * Adds the properties (and required properties) the schema contributes, the same ones and in the same order as
+     * {@link DefaultCodegenConfig#addProperties(Map, List, Schema, Map)} walking the schema.
+     */
+    synchronized void addProperties(Map<String, Schema> properties, List<String> required, Schema schema) {
+        final InheritedProperties inherited = getInheritedProperties(schema);
+        properties.putAll(inherited.properties);
+        required.addAll(inherited.required);
+    }
+
+    private InheritedProperties getInheritedProperties(Schema schema) {
+        if (schema == null) {
+            return InheritedProperties.EMPTY;
+        }
+        if (!(schema instanceof ComposedSchema) && StringUtils.isBlank(schema.get$ref())) {
+            return new InheritedProperties(schema.getProperties(), schema.getRequired());
+        }
+        InheritedProperties inherited = inheritedProperties.get(schema);
+        if (inherited != null && inherited.isResolvedBy(allSchemas)) {
+            return inherited;
+        }
+        if (!resolving.add(schema)) {
+            LOGGER.warn("schema references itself through allOf, ignoring the cycle");
+            return InheritedProperties.EMPTY;
+        }
+        try {
+            inherited = new InheritedProperties(null, null);
+            if (schema instanceof ComposedSchema) {
+                final List<Schema> allOf = ((ComposedSchema) schema).getAllOf();
+                // the first allOf is the parent, only the interfaces are inherited.
+                if (allOf != null) {
+                    for (int i = 1; i < allOf.size(); i++) {
+                        inherited.add(getInheritedProperties(allOf.get(i)));
+                    }
+                }
+            } else {
+                final String name = refIndex.getName(schema.get$ref());
+                final Schema refSchema = allSchemas == null ? null : allSchemas.get(name);
+                inherited.refs.put(name, refSchema);
+                inherited.add(getInheritedProperties(refSchema));
+            }
+            inheritedProperties.put(schema, inherited);
+            return inherited;
+        } finally {
+            resolving.remove(schema);
+        }
+    }
+
+    /**
+     * @return the discriminator of the model of the schema, converted by the given function the first time
+     */
+    Discriminator getDiscriminator(Schema schema, Function<Schema, Discriminator> converter) {
+        Discriminator discriminator = discriminators.get(schema);
+        if (discriminator == null) {
+            discriminator = converter.apply(schema);
+            if (discriminator == null) {
+                discriminator = NO_DISCRIMINATOR;
+            }
+            discriminators.put(schema, discriminator);
+        }
+        return discriminator == NO_DISCRIMINATOR ? null : discriminator;
+    }
+
+    /**
+     * Sets the parent and interface models of every model and adds every model to the children of its ancestors, up
+     * to the first ancestor with a discriminator.
+     */
+    static void linkModels(Map<String, CodegenModel> allModels) {
+        for (CodegenModel codegenModel : allModels.values()) {
+            if (codegenModel.parent != null) {
+                codegenModel.parentModel = allModels.get(codegenModel.parent);
+            }
+            if (codegenModel.interfaces == null || codegenModel.interfaces.isEmpty()) {
+                continue;
+            }
+            codegenModel.interfaceModels = new ArrayList<>(codegenModel.interfaces.size());
+            for (String name : codegenModel.interfaces) {
+                final CodegenModel interfaceModel = allModels.get(name);
+                if (interfaceModel != null) {
+                    codegenModel.interfaceModels.add(interfaceModel);
+                }
+            }
+        }
+        final Map<CodegenModel, List<CodegenModel>> ancestors = new IdentityHashMap<>();
+        for (CodegenModel codegenModel : allModels.values()) {
+            for (CodegenModel ancestor : getAncestors(codegenModel, allModels, ancestors)) {
+                if (ancestor.children == null) {
+                    ancestor.children = new ArrayList<>();
+                }
+                ancestor.children.add(codegenModel);
+            }
+        }
+    }
+
+    /**
+     * @return the ancestors of the model up to (and including) the first one with a discriminator
+     */
+    private static List<CodegenModel> getAncestors(CodegenModel codegenModel, Map<String, CodegenModel> allModels, Map<CodegenModel, List<CodegenModel>> ancestors) {
+        // the models whose ancestors depend on the ancestors of their parent, children first.
+        final Deque<CodegenModel> path = new ArrayDeque<>();
+        final Set<CodegenModel> onPath = Collections.newSetFromMap(new IdentityHashMap<>());
+        CodegenModel current = codegenModel;
+        while (current != null && !ancestors.containsKey(current)) {
+            if (!onPath.add(current)) {
+                LOGGER.warn("model " + current.name + " inherits from itself, ignoring the cycle");
+                break;
+            }
+            path.push(current);
+            final CodegenModel parent = getParent(current, allModels);
+            current = parent != null && parent.discriminator == null ? parent : null;
+        }
+        // parents first.
+        while (!path.isEmpty()) {
+            final CodegenModel model = path.pop();
+            final CodegenModel parent = getParent(model, allModels);
+            if (parent == null) {
+                ancestors.put(model, Collections.emptyList());
+                continue;
+            }
+            final List<CodegenModel> modelAncestors = new ArrayList<>();
+            modelAncestors.add(parent);
+            if (parent.discriminator == null) {
+                modelAncestors.addAll(ancestors.getOrDefault(parent, Collections.emptyList()));
+            }
+            ancestors.put(model, modelAncestors);
+        }
+        return ancestors.get(codegenModel);
+    }
+
+    private static CodegenModel getParent(CodegenModel codegenModel, Map<String, CodegenModel> allModels) {
+        return codegenModel.parent == null ? null : allModels.get(codegenModel.parent);
+    }
+
+    private static class InheritedProperties {
+        private static final InheritedProperties EMPTY = new InheritedProperties(null, null);
+
+        private final Map<String, Schema> properties;
+        private final List<String> required;
+        // the schemas the references were resolved to, by name.
+        private final Map<String, Schema> refs = new HashMap<>();
+
+        InheritedProperties(Map<String, Schema> properties, List<String> required) {
+            this.properties = properties == null ? new LinkedHashMap<>() : properties;
+            this.required = required == null ? new ArrayList<>() : required;
+        }
+
+        void add(InheritedProperties inherited) {
+            properties.putAll(inherited.properties);
+            required.addAll(inherited.required);
+            refs.putAll(inherited.refs);
+        }
+
+        /**
+         * @return whether the references still resolve to the same schemas, the map may have changed since
+         */
+        boolean isResolvedBy(Map<String, Schema> allSchemas) {
+            for (Map.Entry<String, Schema> ref : refs.entrySet()) {
+                if ((allSchemas == null ? null : allSchemas.get(ref.getKey())) != ref.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenOperation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the operation ids grouped under each tag, so a unique operation id can be found without scanning the
+ * whole operation list of the tag for every added operation.
+ *
+ * The result is the same as the scan it replaces: going through the list in order, every operation whose id equals
+ * the current candidate moves the candidate to the next of <code>id_0</code>, <code>id_1</code>, ... Only the
+ * operations after the one that matched the previous candidate are considered for the next.
+ */
+class OperationIdIndex {
+
+    private Map<String, List<CodegenOperation>> operations;
+    private final Map<String, TagIndex> tags = new HashMap<>();
+
+    String uniqueOperationId(Map<String, List<CodegenOperation>> operations, String tag, List<CodegenOperation> opList, String operationId) {
+        if (operationId == null) {
+            return null;
+        }
+        if (this.operations != operations) {
+            this.operations = operations;
+            tags.clear();
+        }
+        TagIndex tagIndex = tags.get(tag);
+        if (tagIndex == null || tagIndex.opList != opList) {
+            tagIndex = new TagIndex(opList);
+            tags.put(tag, tagIndex);
+        }
+        return tagIndex.uniqueOperationId(operationId);
+    }
+
+    private static class TagIndex {
+        private final List<CodegenOperation> opList;
+        private final Map<String, List<Integer>> positions = new HashMap<>();
+        private int size;
+
+        TagIndex(List<CodegenOperation> opList) {
+            this.opList = opList;
+        }
+
+        String uniqueOperationId(String operationId) {
+            update();
+            String uniqueName = lookup(operationId);
+            if (uniqueName == null) {
+                // the list was changed behind our back, index it again.
+                rebuild();
+                uniqueName = lookup(operationId);
+            }
+            return uniqueName;
+        }
+
+        /**
+         * Returns the unique name, or <code>null</code> if an indexed position does not hold the expected id anymore.
+         */
+        private String lookup(String operationId) {
+            String uniqueName = operationId;
+            int counter = 0;
+            int position = -1;
+            while (true) {
+                final int next = nextPosition(uniqueName, position);
+                if (next < 0) {
+                    return uniqueName;
+                }
+                if (!uniqueName.equals(opList.get(next).operationId)) {
+                    return null;
+                }
+                position = next;
+                uniqueName = operationId + "_" + counter;
+                counter++;
+            }
+        }
+
+        private int nextPosition(String operationId, int after) {
+            final List<Integer> indexes = positions.get(operationId);
+            if (indexes == null) {
+                return -1;
+            }
+            int index = Collections.binarySearch(indexes, after + 1);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < indexes.size() ? indexes.get(index) : -1;
+        }
+
+        private void update() {
+            if (opList.size() < size) {
+                rebuild();
+                return;
+            }
+            for (; size < opList.size(); size++) {
+                final String operationId = opList.get(size).operationId;
+                if (operationId != null) {
+                    positions.computeIfAbsent(operationId, key -> new ArrayList<>()).add(size);
+                }
+            }
+        }
+
+        private void rebuild() {
+            positions.clear();
+            size = 0;
+            update();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Times the rendering of every template of the wrapped engine, see {@link GenerationProfiler}.
+ */
+class ProfilingTemplateEngine implements TemplateEngine {
+
+    private final TemplateEngine templateEngine;
+    private final GenerationProfiler generationProfiler;
+
+    ProfilingTemplateEngine(TemplateEngine templateEngine, GenerationProfiler generationProfiler) {
+        this.templateEngine = templateEngine;
+        this.generationProfiler = generationProfiler;
+    }
+
+    @Override
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        final GenerationProfiler.Sample sample = generationProfiler.start("render " + templateFile);
+        try {
+            return templateEngine.getRendered(templateFile, templateData);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return templateEngine.getName();
+    }
+
+    TemplateEngine getTemplateEngine() {
+        return templateEngine;
+    }
+}
@@ -4,7 +4,6 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
 import io.swagger.codegen.v3.CodegenProperty;
-import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -47,17 +46,17 @@ public class SchemaHandler {
     }
 
     public void configureComposedModelFromSchemaItems(CodegenModel codegenModel, ComposedSchema items) {
+        // setting name to be used as instance type on composed model.
+        configureSchemaItemsModelName(codegenModel.name, items);
         List<Schema> oneOfList = items.getOneOf();
         if (oneOfList != null && !oneOfList.isEmpty()){
             String name = "OneOf" + codegenModel.name + "Items";
             final CodegenModel oneOfModel = createComposedModel(name);
-            // setting name to be used as instance type on composed model.
-            items.addExtension("x-model-name", codegenConfig.toModelName(name));
 
             final List<String> modelNames = new ArrayList<>();
             for (Schema interfaceSchema : oneOfList) {
                 if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
-                    String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+                    String schemaName = codegenConfig.getRefIndex().getName(interfaceSchema.get$ref());
                     modelNames.add(codegenConfig.toModelName(schemaName));
                 }
             }
@@ -70,12 +69,11 @@ public class SchemaHandler {
         if (anyOfList != null && !anyOfList.isEmpty()){
             String name = "AnyOf" + codegenModel.name + "Items";
             final CodegenModel anyOfModel = createComposedModel(name);
-            items.addExtension("x-model-name", codegenConfig.toModelName(name));
 
             final List<String> modelNames = new ArrayList<>();
             for (Schema interfaceSchema : anyOfList) {
                 if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
-                    String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+                    String schemaName = codegenConfig.getRefIndex().getName(interfaceSchema.get$ref());
                     modelNames.add(codegenConfig.toModelName(schemaName));
                 }
             }
@@ -91,7 +89,7 @@ public class SchemaHandler {
         final List<String> modelNames = new ArrayList<>();
         for (Schema interfaceSchema : oneOf) {
             if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
-                String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+                String schemaName = codegenConfig.getRefIndex().getName(interfaceSchema.get$ref());
                 modelNames.add(codegenConfig.toModelName(schemaName));
             }
         }
@@ -110,7 +108,7 @@ public class SchemaHandler {
         final List<String> modelNames = new ArrayList<>();
         for (Schema interfaceSchema : anyOf) {
             if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
-                String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+                String schemaName = codegenConfig.getRefIndex().getName(interfaceSchema.get$ref());
                 modelNames.add(codegenConfig.toModelName(schemaName));
             }
         }
@@ -160,7 +158,7 @@ public class SchemaHandler {
 
         for (Schema interfaceSchema : schemas) {
             if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
-                String schemaName = OpenAPIUtil.getSimpleRef(interfaceSchema.get$ref());
+                String schemaName = codegenConfig.getRefIndex().getName(interfaceSchema.get$ref());
                 modelNames.add(codegenConfig.toModelName(schemaName));
             }
         }
@@ -182,6 +180,28 @@ public class SchemaHandler {
         codegenModel.vendorExtensions.put("x-is-composed-model", Boolean.TRUE);
     }
 
+    /**
+     * sets the name of the model composed of the items of an array model (<code>x-model-name</code>).
+     * @param modelName name of the array model
+     * @param items composed schema of the array items
+     */
+    public void configureSchemaItemsModelName(String modelName, ComposedSchema items) {
+        String itemsModelName = null;
+        if (items.getOneOf() != null && !items.getOneOf().isEmpty()) {
+            itemsModelName = codegenConfig.toModelName("OneOf" + modelName + "Items");
+        }
+        if (items.getAnyOf() != null && !items.getAnyOf().isEmpty()) {
+            itemsModelName = codegenConfig.toModelName("AnyOf" + modelName + "Items");
+        }
+        if (itemsModelName == null) {
+            return;
+        }
+        // set once before the models are converted, the conversions only read it then.
+        if (items.getExtensions() == null || !itemsModelName.equals(items.getExtensions().get("x-model-name"))) {
+            items.addExtension("x-model-name", itemsModelName);
+        }
+    }
+
     private boolean hasNonObjectSchema(List<Schema> schemas) {
         for  (Schema schema : schemas) {
             if (!codegenConfig.isObjectSchema(schema)) {
@@ -0,0 +1,189 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.generators.util.CompactVendorExtensions;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Vendor extensions of the copies of a parameter in the parameter lists of an operation (<code>allParams</code>,
+ * <code>queryParams</code>, <code>requiredParams</code>, ...). The copies share a snapshot of the vendor extensions
+ * the parameter had when it was first copied, which is never modified, and only keep the entries set (or removed)
+ * on them afterwards, like the <code>x-has-more</code> flag of their list.
+ *
+ * Both are {@link CompactVendorExtensions}. For its users it behaves like a map of its own, changes to one copy don't
+ * show up in the others.
+ */
+class SharedVendorExtensions extends AbstractMap<String, Object> {
+
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> shared;
+    private Map<String, Object> own;
+
+    SharedVendorExtensions(Map<String, Object> vendorExtensions) {
+        this(vendorExtensions == null ? Collections.<String, Object>emptyMap() : new CompactVendorExtensions(vendorExtensions), null);
+    }
+
+    private SharedVendorExtensions(Map<String, Object> shared, Map<String, Object> own) {
+        this.shared = shared;
+        this.own = own;
+    }
+
+    /**
+     * @return vendor extensions with the same entries as these, sharing the snapshot
+     */
+    SharedVendorExtensions copy() {
+        return new SharedVendorExtensions(shared, own == null || own.isEmpty() ? null : new CompactVendorExtensions(own));
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (own != null) {
+            final Object value = own.get(key);
+            if (value != null || own.containsKey(key)) {
+                return value == REMOVED ? null : value;
+            }
+        }
+        return shared.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (own != null && own.containsKey(key)) {
+            return own.get(key) != REMOVED;
+        }
+        return shared.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final Object previous = get(key);
+        own().put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+        final Object previous = get(key);
+        if (shared.containsKey(key)) {
+            own().put((String) key, REMOVED);
+        } else {
+            own.remove(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        own = new CompactVendorExtensions();
+        for (String key : shared.keySet()) {
+            own.put(key, REMOVED);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = shared.size();
+        if (own != null) {
+            for (Map.Entry<String, Object> entry : own.entrySet()) {
+                final boolean isShared = shared.containsKey(entry.getKey());
+                if (entry.getValue() == REMOVED) {
+                    size -= isShared ? 1 : 0;
+                } else {
+                    size += isShared ? 0 : 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                final Iterator<Map.Entry<String, Object>> entries = merge().entrySet().iterator();
+                return new Iterator<Map.Entry<String, Object>>() {
+                    private Map.Entry<String, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        current = new WriteThroughEntry(entries.next());
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        SharedVendorExtensions.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return SharedVendorExtensions.this.size();
+            }
+        };
+    }
+
+    private Map<String, Object> own() {
+        if (own == null) {
+            own = new CompactVendorExtensions();
+        }
+        return own;
+    }
+
+    private Map<String, Object> merge() {
+        if (own == null || own.isEmpty()) {
+            return shared;
+        }
+        final Map<String, Object> merged = new HashMap<>(shared);
+        for (Map.Entry<String, Object> entry : own.entrySet()) {
+            if (entry.getValue() == REMOVED) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Entry writing through to the vendor extensions.
+     */
+    private class WriteThroughEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+        WriteThroughEntry(Map.Entry<String, Object> entry) {
+            super(entry);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.templates.TemplateEngine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Releases the property and parameter lists of the models and operations once their files are rendered, see
+ * {@link DefaultCodegenConfig#STREAMING_GENERATION}.
+ *
+ * The generator renders all the files of a model (model, test and doc templates) and then all the files of an API
+ * with the same data, so the data of the previous file is complete as soon as a template is rendered with other data.
+ * What's left of the models and operations for the supporting files is their "index": names, class names, imports,
+ * parents, interfaces, discriminators and vendor extensions. Models with children are kept whole, as the templates of
+ * the children may look into them.
+ */
+class StreamingTemplateEngine implements TemplateEngine {
+
+    private final TemplateEngine templateEngine;
+    private final DefaultCodegenConfig config;
+    private Map<String, Object> renderedData;
+
+    StreamingTemplateEngine(TemplateEngine templateEngine, DefaultCodegenConfig config) {
+        this.templateEngine = templateEngine;
+        this.config = config;
+    }
+
+    @Override
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        synchronized (this) {
+            if (templateData != renderedData) {
+                if (renderedData != null) {
+                    release(renderedData);
+                }
+                renderedData = isFileData(templateData) && config.isStreamingGeneration() ? templateData : null;
+            }
+        }
+        return templateEngine.getRendered(templateFile, templateData);
+    }
+
+    @Override
+    public String getName() {
+        return templateEngine.getName();
+    }
+
+    TemplateEngine getTemplateEngine() {
+        return templateEngine;
+    }
+
+    /**
+     * @return whether the data is the one of a model or an API file, the data of the supporting files holds all of them
+     */
+    private static boolean isFileData(Map<String, Object> templateData) {
+        return templateData != null && !templateData.containsKey("apiInfo")
+                && (templateData.containsKey("models") || templateData.containsKey("operations"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void release(Map<String, Object> templateData) {
+        final Object operations = templateData.get("operations");
+        if (operations instanceof Map) {
+            final Object operationList = ((Map<String, Object>) operations).get("operation");
+            if (operationList instanceof List) {
+                for (Object operation : (List<Object>) operationList) {
+                    if (operation instanceof CodegenOperation) {
+                        release((CodegenOperation) operation);
+                    }
+                }
+            }
+            return;
+        }
+        final Object models = templateData.get("models");
+        if (models instanceof List) {
+            for (Object model : (List<Object>) models) {
+                if (model instanceof Map && ((Map<String, Object>) model).get("model") instanceof CodegenModel) {
+                    release((CodegenModel) ((Map<String, Object>) model).get("model"));
+                }
+            }
+        }
+    }
+
+    private static void release(CodegenModel codegenModel) {
+        if (codegenModel.children != null && !codegenModel.children.isEmpty()) {
+            return;
+        }
+        codegenModel.vars = new ArrayList<>();
+        codegenModel.allVars = new ArrayList<>();
+        codegenModel.requiredVars = new ArrayList<>();
+        codegenModel.optionalVars = new ArrayList<>();
+        codegenModel.readOnlyVars = new ArrayList<>();
+        codegenModel.readWriteVars = new ArrayList<>();
+        codegenModel.parentVars = new ArrayList<>();
+        codegenModel.modelJson = null;
+    }
+
+    private static void release(CodegenOperation codegenOperation) {
+        codegenOperation.allParams = new ArrayList<>();
+        codegenOperation.bodyParams = new ArrayList<>();
+        codegenOperation.pathParams = new ArrayList<>();
+        codegenOperation.queryParams = new ArrayList<>();
+        codegenOperation.headerParams = new ArrayList<>();
+        codegenOperation.formParams = new ArrayList<>();
+        codegenOperation.requiredParams = new ArrayList<>();
+        codegenOperation.responses = new ArrayList<>();
+        codegenOperation.examples = null;
+        if (codegenOperation.getContents() != null) {
+            codegenOperation.getContents().clear();
+        }
+    }
+}
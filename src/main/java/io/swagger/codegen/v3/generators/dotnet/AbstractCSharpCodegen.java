@@ -14,6 +14,7 @@ import io.swagger.codegen.v3.generators.handlebars.lambda.IndentedLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.LowercaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.TitlecaseLambda;
 import io.swagger.codegen.v3.generators.handlebars.lambda.UppercaseLambda;
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -47,6 +48,27 @@ import static io.swagger.codegen.v3.CodegenConstants.IS_ENUM_EXT_NAME;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            // set "client" as a reserved word to avoid conflicts with IO.Swagger.Client
+            // this is a workaround and can be removed if c# api client is updated to use
+            // fully qualified name
+            "Client", "client", "parameter",
+            // local variable names in API methods (endpoints)
+            "localVarPath", "localVarPathParams", "localVarQueryParams", "localVarHeaderParams",
+            "localVarFormParams", "localVarFileParams", "localVarStatusCode", "localVarResponse",
+            "localVarPostBody", "localVarHttpHeaderAccepts", "localVarHttpHeaderAccept",
+            "localVarHttpContentTypes", "localVarHttpContentType",
+            "localVarStatusCode",
+            // C# reserved words
+            "abstract", "as", "base", "bool", "break", "byte", "case", "catch", "char", "checked",
+            "class", "const", "continue", "decimal", "default", "delegate", "do", "double", "else",
+            "enum", "event", "explicit", "extern", "false", "finally", "fixed", "float", "for",
+            "foreach", "goto", "if", "implicit", "in", "int", "interface", "internal", "is", "lock",
+            "long", "namespace", "new", "null", "object", "operator", "out", "override", "params",
+            "private", "protected", "public", "readonly", "ref", "return", "sbyte", "sealed",
+            "short", "sizeof", "stackalloc", "static", "string", "struct", "switch", "this", "throw",
+            "true", "try", "typeof", "uint", "ulong", "unchecked", "unsafe", "ushort", "using",
+            "virtual", "void", "volatile", "while");
 
     protected boolean optionalAssemblyInfoFlag = true;
     protected boolean optionalProjectFileFlag = true;
@@ -103,29 +125,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegenConfig {
                 Arrays.asList("IDictionary")
         );
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // set "client" as a reserved word to avoid conflicts with IO.Swagger.Client
-                        // this is a workaround and can be removed if c# api client is updated to use
-                        // fully qualified name
-                        "Client", "client", "parameter",
-                        // local variable names in API methods (endpoints)
-                        "localVarPath", "localVarPathParams", "localVarQueryParams", "localVarHeaderParams",
-                        "localVarFormParams", "localVarFileParams", "localVarStatusCode", "localVarResponse",
-                        "localVarPostBody", "localVarHttpHeaderAccepts", "localVarHttpHeaderAccept",
-                        "localVarHttpContentTypes", "localVarHttpContentType",
-                        "localVarStatusCode",
-                        // C# reserved words
-                        "abstract", "as", "base", "bool", "break", "byte", "case", "catch", "char", "checked",
-                        "class", "const", "continue", "decimal", "default", "delegate", "do", "double", "else",
-                        "enum", "event", "explicit", "extern", "false", "finally", "fixed", "float", "for",
-                        "foreach", "goto", "if", "implicit", "in", "int", "interface", "internal", "is", "lock",
-                        "long", "namespace", "new", "null", "object", "operator", "out", "override", "params",
-                        "private", "protected", "public", "readonly", "ref", "return", "sbyte", "sealed",
-                        "short", "sizeof", "stackalloc", "static", "string", "struct", "switch", "this", "throw",
-                        "true", "try", "typeof", "uint", "ulong", "unchecked", "unsafe", "ushort", "using",
-                        "virtual", "void", "volatile", "while")
-        );
+        shareReservedWords(RESERVED_WORDS);
 
         // TODO: Either include fully qualified names here or handle in DefaultCodegen via lastIndexOf(".") search
         languageSpecificPrimitives = new HashSet<String>(
@@ -0,0 +1,144 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Limits of a streamed example: maximum depth, size budget (number of written values) and the models being
+ * expanded, a model referencing itself (directly or not) is cut off instead of being expanded again.
+ */
+class ExampleBudget {
+
+    private final int maxDepth;
+    private final int maxSize;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private int size;
+    private int deepest;
+    private boolean truncated;
+
+    ExampleBudget(int maxDepth, int maxSize) {
+        this.maxDepth = maxDepth;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Accounts for a value at the given depth.
+     *
+     * @return <code>false</code> if the value is cut off
+     */
+    boolean enter(int depth) {
+        if (depth > maxDepth || size >= maxSize) {
+            truncated = true;
+            return false;
+        }
+        size++;
+        deepest = Math.max(deepest, depth);
+        return true;
+    }
+
+    boolean isSpent() {
+        if (size >= maxSize) {
+            truncated = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Accounts for the given number of values written again (repeated array items).
+     */
+    boolean spend(int values) {
+        if (size + values > maxSize) {
+            truncated = true;
+            return false;
+        }
+        size += values;
+        return true;
+    }
+
+    /**
+     * Accounts for a memoized expansion replayed at the given depth, if it fits.
+     */
+    boolean replay(int depth, int height, int values) {
+        if (depth + height > maxDepth || size + values > maxSize) {
+            return false;
+        }
+        size += values;
+        deepest = Math.max(deepest, depth + height);
+        return true;
+    }
+
+    /**
+     * Starts the expansion of a referenced model, referenced from the given depth.
+     *
+     * @return <code>false</code> if the model is already being expanded
+     */
+    boolean push(String ref, int depth) {
+        for (Frame frame : frames) {
+            if (frame.ref.equals(ref)) {
+                truncated = true;
+                return false;
+            }
+        }
+        frames.push(new Frame(ref, size, deepest, truncated));
+        deepest = depth;
+        truncated = false;
+        return true;
+    }
+
+    /**
+     * Ends the expansion started by the last {@link #push(String, int)}.
+     */
+    Expansion pop(int depth) {
+        final Frame frame = frames.pop();
+        final Expansion expansion = new Expansion(!truncated, deepest - depth, size - frame.size);
+        truncated |= frame.truncated;
+        deepest = Math.max(deepest, frame.deepest);
+        return expansion;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    static class Expansion {
+        private final boolean complete;
+        private final int height;
+        private final int size;
+
+        Expansion(boolean complete, int height, int size) {
+            this.complete = complete;
+            this.height = height;
+            this.size = size;
+        }
+
+        /**
+         * @return <code>true</code> if nothing was cut off, the expansion is the same wherever the model is referenced
+         */
+        boolean isComplete() {
+            return complete;
+        }
+
+        int getHeight() {
+            return height;
+        }
+
+        int getSize() {
+            return size;
+        }
+    }
+
+    private static class Frame {
+        private final String ref;
+        private final int size;
+        private final int deepest;
+        private final boolean truncated;
+
+        Frame(String ref, int size, int deepest, boolean truncated) {
+            this.ref = ref;
+            this.size = size;
+            this.deepest = deepest;
+            this.truncated = truncated;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streamed examples of the referenced models of an OpenAPI instance, written once and replayed by every example
+ * generator of the spec the cache is passed to. Generators keep one per spec (see
+ * <code>DefaultCodegenConfig.getExampleCache()</code>), the examples of the models don't depend on the operation
+ * they are generated for.
+ */
+public class ExampleCache {
+
+    private final OpenAPI openAPI;
+    private final Map<String, JsonExampleWriter.Memo> memos = new ConcurrentHashMap<>();
+
+    public ExampleCache(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    Map<String, JsonExampleWriter.Memo> getMemos() {
+        return memos;
+    }
+}
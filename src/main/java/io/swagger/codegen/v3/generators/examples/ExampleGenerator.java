@@ -1,6 +1,6 @@
 package io.swagger.codegen.v3.generators.examples;
 
-import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
+import io.swagger.codegen.v3.generators.util.RefIndex;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -20,6 +20,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -44,13 +46,34 @@ public class ExampleGenerator {
     private static final String URL = "url";
     private static final String URI = "uri";
 
+    public static final int DEFAULT_MAX_DEPTH = 32;
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
     protected Map<String, Schema> examples;
     private Random random;
     private OpenAPI openAPI;
+    private RefIndex refIndex;
+    private boolean streaming;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private final ExampleCache exampleCache;
 
     public ExampleGenerator(OpenAPI openAPI) {
+        this(openAPI, new RefIndex(openAPI));
+    }
+
+    public ExampleGenerator(OpenAPI openAPI, RefIndex refIndex) {
+        this(openAPI, refIndex, null);
+    }
+
+    /**
+     * @param exampleCache the streamed examples of the models of the spec, shared by its example generators
+     */
+    public ExampleGenerator(OpenAPI openAPI, RefIndex refIndex, ExampleCache exampleCache) {
         //this.examples = examples;
         this.openAPI = openAPI;
+        this.refIndex = refIndex == null ? new RefIndex(openAPI) : refIndex;
+        this.exampleCache = exampleCache == null || exampleCache.getOpenAPI() != openAPI ? new ExampleCache(openAPI) : exampleCache;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
     }
@@ -77,19 +100,17 @@ public class ExampleGenerator {
                 kv.put(CONTENT_TYPE, mediaType);
 
                 if (mediaType.startsWith(MIME_TYPE_JSON)) {
-                    String example = Json.pretty(resolveSchemaToExample("", mediaType, schema, processedModels));
+                    String example = streaming ? writeJsonExample(schema) : Json.pretty(resolveSchemaToExample("", mediaType, schema, processedModels));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
                 } else if (mediaType.startsWith(MIME_TYPE_XML)) {
-                    /** todo: add xml generator
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = writeXmlExample(schema);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
-                     */
                 }
             }
         } else {
@@ -131,13 +152,13 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    /** todo: add xml example generator
-                     * String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.<String>emptySet());
-                    if (example != null) {
-                        kv.put(EXAMPLE, example);
-                        output.add(kv);
+                    if (schema != null) {
+                        String example = writeXmlExample(schema);
+                        if (example != null) {
+                            kv.put(EXAMPLE, example);
+                            output.add(kv);
+                        }
                     }
-                    */
                 }
             }
         } else {
@@ -156,6 +177,52 @@ public class ExampleGenerator {
         return output;
     }
 
+    /**
+     * Streams the example instead of building (and caching in the spec) the example tree, see {@link JsonExampleWriter}.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Maximum nesting of streamed examples, deeper values are written as <code>null</code>.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Maximum number of values of a streamed example.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    private String writeJsonExample(Schema schema) {
+        try {
+            return new JsonExampleWriter(this, new ExampleBudget(maxDepth, maxSize), exampleCache.getMemos()).write("", schema);
+        } catch (IOException e) {
+            logger.warn("could not write example", e);
+            return null;
+        }
+    }
+
+    /**
+     * XML examples are always streamed, see {@link XmlExampleWriter}.
+     */
+    private String writeXmlExample(Schema schema) {
+        try {
+            return new XmlExampleWriter(this, new ExampleBudget(maxDepth, maxSize)).write(schema);
+        } catch (XMLStreamException e) {
+            logger.warn("could not write xml example", e);
+            return null;
+        }
+    }
+
     private Object resolveSchemaToExample(String propertyName, String mediaType, Schema schema, Set<String> processedModels) {
         if (processedModels.contains(schema.get$ref())) {
             return schema.getExample();
@@ -166,7 +233,58 @@ public class ExampleGenerator {
         if (schema.getExample() != null) {
             logger.debug("Example set in swagger spec, returning example: '{}'", schema.getExample().toString());
             return schema.getExample();
-        } else if (schema instanceof StringSchema) {
+        }
+        final Object primitiveExample = resolvePrimitiveExample(propertyName, schema);
+        if (primitiveExample != null) {
+            return primitiveExample;
+        }
+        if (schema instanceof ArraySchema) {
+            Schema innerType = ((ArraySchema) schema).getItems();
+            if (innerType != null) {
+                int arrayLength = schema.getMaxItems() != null ? schema.getMaxItems() : 2;
+                Object[] objectProperties = new Object[arrayLength];
+                Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, processedModels);
+                for(int i=0; i < arrayLength; i++) {
+                    objectProperties[i] = objProperty;
+                }
+                return objectProperties;
+            }
+        } else if (schema instanceof MapSchema && schema.getAdditionalProperties() != null && schema.getAdditionalProperties() instanceof Schema) {
+            Map<String, Object> mp = new HashMap<String, Object>();
+            if (schema.getName() != null) {
+                mp.put(schema.getName(),
+                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
+            } else {
+                mp.put("key",
+                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
+            }
+            return mp;
+        } else if (!StringUtils.isEmpty(schema.get$ref())) { // model
+            Schema model = resolveRef(schema.get$ref());
+            if (model == null) { // couldn't find the model/schema
+                return "{}";
+            }
+            return resolveSchemaToExample(propertyName, mediaType, model, processedModels);
+        } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
+            Map<String, Object> values = new HashMap<>();
+            if (schema.getProperties() != null) {
+                logger.debug("Creating example from model values");
+                for (Object propName : schema.getProperties().keySet()) {
+                    Schema schemaProperty = (Schema) schema.getProperties().get(propName.toString());
+                    values.put(propName.toString(), resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, processedModels));
+                }
+                schema.setExample(values);
+            }
+            return values;
+        }
+        return "";
+    }
+
+    /**
+     * Example of a string, boolean, date, number, file or uuid schema, <code>null</code> for any other schema.
+     */
+    Object resolvePrimitiveExample(String propertyName, Schema schema) {
+        if (schema instanceof StringSchema) {
             logger.debug("String property");
             String defaultValue = ((StringSchema) schema).getDefault();
             if (defaultValue != null && !defaultValue.isEmpty()) {
@@ -191,17 +309,6 @@ public class ExampleGenerator {
                 return defaultValue;
             }
             return Boolean.TRUE;
-        } else if (schema instanceof ArraySchema) {
-            Schema innerType = ((ArraySchema) schema).getItems();
-            if (innerType != null) {
-                int arrayLength = schema.getMaxItems() != null ? schema.getMaxItems() : 2;
-                Object[] objectProperties = new Object[arrayLength];
-                Object objProperty = resolveSchemaToExample(propertyName, mediaType, innerType, processedModels);
-                for(int i=0; i < arrayLength; i++) {
-                    objectProperties[i] = objProperty;
-                }
-                return objectProperties;
-            }
         } else if (schema instanceof DateSchema) {
             return "2000-01-23";
         } else if (schema instanceof DateTimeSchema) {
@@ -222,42 +329,18 @@ public class ExampleGenerator {
                 return (long) randomNumber(min, max);
             }
             return (int) randomNumber(min, max);
-        } else if (schema instanceof MapSchema && schema.getAdditionalProperties() != null && schema.getAdditionalProperties() instanceof Schema) {
-            Map<String, Object> mp = new HashMap<String, Object>();
-            if (schema.getName() != null) {
-                mp.put(schema.getName(),
-                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
-            } else {
-                mp.put("key",
-                        resolveSchemaToExample(propertyName, mediaType, (Schema) schema.getAdditionalProperties(), processedModels));
-            }
-            return mp;
-        } else if (!StringUtils.isEmpty(schema.get$ref())) { // model
-            String simpleName = OpenAPIUtil.getSimpleRef(schema.get$ref());
-            Schema model = null;
-            if (openAPI != null && openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
-                model = openAPI.getComponents().getSchemas().get(simpleName);
-            }
-
-            if (model == null) { // couldn't find the model/schema
-                return "{}";
-            }
-            return resolveSchemaToExample(propertyName, mediaType, model, processedModels);
-        } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
-            Map<String, Object> values = new HashMap<>();
-            if (schema.getProperties() != null) {
-                logger.debug("Creating example from model values");
-                for (Object propName : schema.getProperties().keySet()) {
-                    Schema schemaProperty = (Schema) schema.getProperties().get(propName.toString());
-                    values.put(propName.toString(), resolveSchemaToExample(propName.toString(), mediaType, schemaProperty, processedModels));
-                }
-                schema.setExample(values);
-            }
-            return values;
         } else if (schema instanceof UUIDSchema) {
             return "046b6c7f-0b8a-43b9-b35d-6489e6daee91";
         }
-        return "";
+        return null;
+    }
+
+    Schema resolveRef(String ref) {
+        return refIndex.getSchema(ref);
+    }
+
+    String getRefName(String ref) {
+        return refIndex.getName(ref);
     }
 
     private double randomNumber(Double min, Double max) {
@@ -0,0 +1,142 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+/**
+ * Writes the example of a schema straight to a {@link JsonGenerator}, without building the example tree first and
+ * without touching the schemas. The output stops growing at the maximum depth and once the size budget (number of
+ * written values) is spent, cut off values are written as <code>null</code>. Fully expanded models are memoized
+ * per <code>$ref</code> and replayed.
+ */
+class JsonExampleWriter {
+
+    private final ExampleGenerator exampleGenerator;
+    private final ExampleBudget budget;
+    private final Map<String, Memo> memos;
+
+    JsonExampleWriter(ExampleGenerator exampleGenerator, ExampleBudget budget, Map<String, Memo> memos) {
+        this.exampleGenerator = exampleGenerator;
+        this.budget = budget;
+        this.memos = memos;
+    }
+
+    String write(String propertyName, Schema schema) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.mapper().getFactory().createGenerator(writer)) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            write(generator, propertyName, schema, 0);
+        }
+        return writer.toString();
+    }
+
+    private void write(JsonGenerator generator, String propertyName, Schema schema, int depth) throws IOException {
+        if (schema == null || !budget.enter(depth)) {
+            generator.writeNull();
+            return;
+        }
+        if (schema.getExample() != null) {
+            generator.writeObject(schema.getExample());
+            return;
+        }
+        final Object primitiveExample = exampleGenerator.resolvePrimitiveExample(propertyName, schema);
+        if (primitiveExample != null) {
+            generator.writeObject(primitiveExample);
+        } else if (schema instanceof ArraySchema) {
+            writeArray(generator, propertyName, (ArraySchema) schema, depth);
+        } else if (schema instanceof MapSchema && schema.getAdditionalProperties() instanceof Schema) {
+            generator.writeStartObject();
+            generator.writeFieldName(schema.getName() != null ? schema.getName() : "key");
+            write(generator, propertyName, (Schema) schema.getAdditionalProperties(), depth + 1);
+            generator.writeEndObject();
+        } else if (StringUtils.isNotBlank(schema.get$ref())) {
+            writeModel(generator, propertyName, schema.get$ref(), depth);
+        } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
+            generator.writeStartObject();
+            if (schema.getProperties() != null) {
+                for (Object name : schema.getProperties().keySet()) {
+                    if (budget.isSpent()) {
+                        break;
+                    }
+                    generator.writeFieldName(name.toString());
+                    write(generator, name.toString(), (Schema) schema.getProperties().get(name), depth + 1);
+                }
+            }
+            generator.writeEndObject();
+        } else {
+            generator.writeString("");
+        }
+    }
+
+    private void writeArray(JsonGenerator generator, String propertyName, ArraySchema schema, int depth) throws IOException {
+        if (schema.getItems() == null) {
+            generator.writeString("");
+            return;
+        }
+        final int length = schema.getMaxItems() != null ? schema.getMaxItems() : 2;
+        // all items are the same, write one and replay it.
+        final int size = budget.getSize();
+        final TokenBuffer item = new TokenBuffer(Json.mapper(), false);
+        write(item, propertyName, schema.getItems(), depth + 1);
+        final int itemSize = budget.getSize() - size;
+        generator.writeStartArray();
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && !budget.spend(itemSize)) {
+                break;
+            }
+            item.serialize(generator);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeModel(JsonGenerator generator, String propertyName, String ref, int depth) throws IOException {
+        final Schema model = exampleGenerator.resolveRef(ref);
+        if (model == null) {
+            generator.writeStartObject();
+            generator.writeEndObject();
+            return;
+        }
+        // primitive and container models use the name of the referencing property.
+        final String key = model instanceof ObjectSchema || model.getProperties() != null ? ref : ref + '\u0000' + propertyName;
+        final Memo memo = memos.get(key);
+        if (memo != null && budget.replay(depth, memo.height, memo.size)) {
+            memo.buffer.serialize(generator);
+            return;
+        }
+        if (!budget.push(ref, depth)) {
+            generator.writeNull();
+            return;
+        }
+        final TokenBuffer buffer = new TokenBuffer(Json.mapper(), false);
+        write(buffer, propertyName, model, depth + 1);
+        final ExampleBudget.Expansion expansion = budget.pop(depth);
+        if (expansion.isComplete()) {
+            // the expansion did not depend on where the model was referenced from.
+            memos.put(key, new Memo(buffer, expansion.getHeight(), expansion.getSize()));
+        }
+        buffer.serialize(generator);
+    }
+
+    static class Memo {
+        private final TokenBuffer buffer;
+        private final int height;
+        private final int size;
+
+        Memo(TokenBuffer buffer, int height, int size) {
+            this.buffer = buffer;
+            this.height = height;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package io.swagger.codegen.v3.generators.examples;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.XML;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringWriter;
+import java.util.Map;
+
+/**
+ * Writes the XML example of a schema straight to a {@link XMLStreamWriter}, honouring the name, prefix, namespace,
+ * attribute and wrapped settings of the schemas. Uses the same limits as the JSON examples (see {@link ExampleBudget}),
+ * cut off elements are left out.
+ */
+class XmlExampleWriter {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    private static final String INDENT = "  ";
+
+    private final ExampleGenerator exampleGenerator;
+    private final ExampleBudget budget;
+    private XMLStreamWriter writer;
+    private int level;
+    private boolean hasChildElements;
+
+    XmlExampleWriter(ExampleGenerator exampleGenerator, ExampleBudget budget) {
+        this.exampleGenerator = exampleGenerator;
+        this.budget = budget;
+    }
+
+    String write(Schema schema) throws XMLStreamException {
+        final StringWriter output = new StringWriter();
+        writer = OUTPUT_FACTORY.createXMLStreamWriter(output);
+        try {
+            writer.writeStartDocument("UTF-8", "1.0");
+            String name = "root";
+            if (StringUtils.isNotBlank(schema.get$ref())) {
+                // the root element is named after the model.
+                final Schema model = exampleGenerator.resolveRef(schema.get$ref());
+                if (model != null && model.getXml() != null && StringUtils.isNotBlank(model.getXml().getName())) {
+                    name = model.getXml().getName();
+                } else {
+                    name = exampleGenerator.getRefName(schema.get$ref());
+                }
+            } else if (schema.getName() != null) {
+                name = schema.getName();
+            }
+            writeElement(name, schema, null, 0);
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+        return output.toString();
+    }
+
+    /**
+     * @param name element name, unless the xml settings of the schema (or of the referenced model) override it
+     * @param xml xml settings of the referencing property, if any
+     */
+    private void writeElement(String name, Schema schema, XML xml, int depth) throws XMLStreamException {
+        if (schema == null || !budget.enter(depth)) {
+            return;
+        }
+        if (xml == null) {
+            xml = schema.getXml();
+        }
+        if (StringUtils.isNotBlank(schema.get$ref())) {
+            final Schema model = exampleGenerator.resolveRef(schema.get$ref());
+            if (model == null || !budget.push(schema.get$ref(), depth)) {
+                return;
+            }
+            // the name comes from the referencing property, prefix and namespace may come from the model.
+            writeElement(name, model, merge(xml, model.getXml()), depth + 1);
+            budget.pop(depth);
+            return;
+        }
+        final String elementName = xml != null && StringUtils.isNotBlank(xml.getName()) ? xml.getName() : name;
+        if (schema instanceof ArraySchema) {
+            writeArray(elementName, (ArraySchema) schema, xml, depth);
+            return;
+        }
+        startElement(elementName, xml);
+        if (schema.getExample() != null && isScalar(schema.getExample())) {
+            writer.writeCharacters(schema.getExample().toString());
+        } else if (schema instanceof MapSchema && schema.getAdditionalProperties() instanceof Schema) {
+            writeElement(schema.getName() != null ? schema.getName() : "key", (Schema) schema.getAdditionalProperties(), null, depth + 1);
+        } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
+            writeProperties(schema, depth);
+        } else {
+            final Object example = schema.getExample() != null ? schema.getExample() : exampleGenerator.resolvePrimitiveExample(elementName, schema);
+            writer.writeCharacters(example == null ? "" : example.toString());
+        }
+        endElement();
+    }
+
+    private void writeProperties(Schema schema, int depth) throws XMLStreamException {
+        if (schema.getProperties() == null) {
+            return;
+        }
+        final Map<String, Schema> properties = schema.getProperties();
+        // attributes have to be written before any content.
+        for (Map.Entry<String, Schema> property : properties.entrySet()) {
+            final Schema propertySchema = property.getValue();
+            if (propertySchema == null || propertySchema.getXml() == null || !Boolean.TRUE.equals(propertySchema.getXml().getAttribute())) {
+                continue;
+            }
+            if (!budget.enter(depth + 1)) {
+                break;
+            }
+            final String attributeName = StringUtils.isNotBlank(propertySchema.getXml().getName()) ? propertySchema.getXml().getName() : property.getKey();
+            final Object example = propertySchema.getExample() != null ? propertySchema.getExample() : exampleGenerator.resolvePrimitiveExample(attributeName, propertySchema);
+            final String value = example == null ? "" : example.toString();
+            final XML xml = propertySchema.getXml();
+            if (StringUtils.isNotBlank(xml.getNamespace()) && StringUtils.isNotBlank(xml.getPrefix())) {
+                writer.writeNamespace(xml.getPrefix(), xml.getNamespace());
+                writer.writeAttribute(xml.getPrefix(), xml.getNamespace(), attributeName, value);
+            } else {
+                writer.writeAttribute(attributeName, value);
+            }
+        }
+        for (Map.Entry<String, Schema> property : properties.entrySet()) {
+            final Schema propertySchema = property.getValue();
+            if (propertySchema != null && propertySchema.getXml() != null && Boolean.TRUE.equals(propertySchema.getXml().getAttribute())) {
+                continue;
+            }
+            if (budget.isSpent()) {
+                break;
+            }
+            writeElement(property.getKey(), propertySchema, null, depth + 1);
+        }
+    }
+
+    private void writeArray(String name, ArraySchema schema, XML xml, int depth) throws XMLStreamException {
+        final Schema items = schema.getItems();
+        if (items == null) {
+            return;
+        }
+        final boolean wrapped = xml != null && Boolean.TRUE.equals(xml.getWrapped());
+        if (wrapped) {
+            startElement(name, xml);
+        }
+        // without their own name, items are named after the array (the usual way for unwrapped arrays).
+        String itemName = name;
+        if (items.getXml() != null && StringUtils.isNotBlank(items.getXml().getName())) {
+            itemName = items.getXml().getName();
+        } else if (StringUtils.isNotBlank(items.get$ref())) {
+            final Schema model = exampleGenerator.resolveRef(items.get$ref());
+            if (wrapped && model != null && model.getXml() != null && StringUtils.isNotBlank(model.getXml().getName())) {
+                itemName = model.getXml().getName();
+            }
+        }
+        final int length = schema.getMaxItems() != null ? schema.getMaxItems() : 2;
+        for (int i = 0; i < length && !budget.isSpent(); i++) {
+            writeElement(itemName, items, items.getXml(), depth + 1);
+        }
+        if (wrapped) {
+            endElement();
+        }
+    }
+
+    private void startElement(String name, XML xml) throws XMLStreamException {
+        indent();
+        final String prefix = xml == null ? null : xml.getPrefix();
+        final String namespace = xml == null ? null : xml.getNamespace();
+        if (StringUtils.isNotBlank(namespace)) {
+            if (StringUtils.isNotBlank(prefix)) {
+                writer.writeStartElement(prefix, name, namespace);
+                writer.writeNamespace(prefix, namespace);
+            } else {
+                writer.writeStartElement("", name, namespace);
+                writer.writeDefaultNamespace(namespace);
+            }
+        } else if (StringUtils.isNotBlank(prefix)) {
+            writer.writeStartElement(prefix + ":" + name);
+        } else {
+            writer.writeStartElement(name);
+        }
+        level++;
+        hasChildElements = false;
+    }
+
+    private void endElement() throws XMLStreamException {
+        level--;
+        if (hasChildElements) {
+            indent();
+        }
+        writer.writeEndElement();
+        hasChildElements = true;
+    }
+
+    private void indent() throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < level; i++) {
+            writer.writeCharacters(INDENT);
+        }
+    }
+
+    private static XML merge(XML property, XML model) {
+        if (property == null) {
+            return model == null ? null : new XML().prefix(model.getPrefix()).namespace(model.getNamespace()).wrapped(model.getWrapped());
+        }
+        if (model == null) {
+            return property;
+        }
+        return new XML()
+                .name(property.getName())
+                .prefix(property.getPrefix() != null ? property.getPrefix() : model.getPrefix())
+                .namespace(property.getNamespace() != null ? property.getNamespace() : model.getNamespace())
+                .attribute(property.getAttribute())
+                .wrapped(property.getWrapped());
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean;
+    }
+}
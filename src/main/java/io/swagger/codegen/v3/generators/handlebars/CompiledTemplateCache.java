@@ -0,0 +1,114 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Parser;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.TemplateCache;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import com.github.jknack.handlebars.io.TemplateSource;
+import io.swagger.codegen.v3.generators.util.BoundedCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * Template cache shared by all handlebars engines of the process. Compiled templates are keyed by the generator
+ * class (which decides the registered helpers), everything that decides where partials are looked up through the
+ * handlebars instance a template was compiled with (the template directories, the library and the loader with its
+ * prefix, which points to a custom template dir if any), the template location and a hash of the template content.
+ * Templates are thus parsed once per generator and setup, a run with another template dir or library never gets a
+ * template compiled for a different one, and edited (custom) templates are picked up on the next run.
+ */
+public class CompiledTemplateCache implements TemplateCache {
+
+    public static final int MAX_SIZE = 2000;
+
+    private static final BoundedCache<Key, Template> TEMPLATES = new BoundedCache<>(MAX_SIZE);
+
+    private final String owner;
+
+    public CompiledTemplateCache(Class<?> generator, String templateDir, String embeddedTemplateDir, String library, TemplateLoader loader) {
+        this.owner = generator.getName() + '|' + templateDir + '|' + embeddedTemplateDir + '|' + library + '|'
+                + (loader == null ? null : loader.getClass().getName() + '|' + loader.getPrefix() + '|' + loader.getSuffix());
+    }
+
+    @Override
+    public Template get(TemplateSource source, Parser parser) throws IOException {
+        final Key key = new Key(owner, source.filename(), hash(source.content()));
+        Template template = TEMPLATES.get(key);
+        if (template == null) {
+            template = parser.parse(source);
+            TEMPLATES.put(key, template);
+        }
+        return template;
+    }
+
+    @Override
+    public void evict(TemplateSource source) {
+        try {
+            TEMPLATES.remove(new Key(owner, source.filename(), hash(source.content())));
+        } catch (IOException e) {
+            // nothing cached for a source that can't be read.
+        }
+    }
+
+    @Override
+    public void clear() {
+        TEMPLATES.clear();
+    }
+
+    @Override
+    public TemplateCache setReload(boolean reload) {
+        // content hashes are part of the key, changed templates are always reloaded.
+        return this;
+    }
+
+    public static int size() {
+        return TEMPLATES.size();
+    }
+
+    private static String hash(String content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM ships SHA-256, fall back to the content itself.
+            return content;
+        }
+    }
+
+    private static class Key {
+        private final String owner;
+        private final String filename;
+        private final String hash;
+
+        Key(String owner, String filename, String hash) {
+            this.owner = owner;
+            this.filename = filename;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return owner.equals(key.owner) && Objects.equals(filename, key.filename) && hash.equals(key.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, filename, hash);
+        }
+    }
+}
@@ -4,12 +4,16 @@ import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 import io.swagger.codegen.v3.VendorExtendable;
+import io.swagger.codegen.v3.generators.util.CompactVendorExtensions;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ExtensionHelper implements Helper<VendorExtendable> {
 
+    private final Map<String, String> extensionKeys = new ConcurrentHashMap<>();
+
     public abstract String getPreffix();
 
     @Override
@@ -21,7 +25,7 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return buffer;
         }
         final String param = options.param(0);
-        String extension = getPreffix() + param;
+        String extension = param == null ? getPreffix() + param : extensionKeys.computeIfAbsent(param, name -> getPreffix() + name);
 
         if (!getBooleanValue(vendor, extension)) {
             buffer.append(options.inverse());
@@ -36,9 +40,13 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return false;
         }
         Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
-        if (vendorExtensions.get(extensionKey) == null) {
+        if (vendorExtensions instanceof CompactVendorExtensions) {
+            return ((CompactVendorExtensions) vendorExtensions).getBoolean(extensionKey);
+        }
+        final Object value = vendorExtensions.get(extensionKey);
+        if (value == null) {
             return false;
         }
-        return Boolean.parseBoolean(vendorExtensions.get(extensionKey).toString());
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
     }
 }
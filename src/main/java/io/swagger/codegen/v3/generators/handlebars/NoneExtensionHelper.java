@@ -5,11 +5,15 @@ import com.github.jknack.handlebars.Options;
 import io.swagger.codegen.v3.VendorExtendable;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public abstract class NoneExtensionHelper implements Helper<VendorExtendable> {
 
+    private final Map<String, String> extensionKeys = new ConcurrentHashMap<>();
+
     public abstract String getPreffix();
 
     @Override
@@ -20,7 +24,7 @@ public abstract class NoneExtensionHelper implements Helper<VendorExtendable> {
             return buffer;
         }
         final String param = options.param(0);
-        String extension = getPreffix() + param;
+        String extension = param == null ? getPreffix() + param : extensionKeys.computeIfAbsent(param, name -> getPreffix() + name);
 
         if (!getBooleanValue(vendor, extension)) {
             buffer.append(options.fn());
@@ -152,6 +152,8 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     @Override
     public void processOpts() {
         super.processOpts();
+        // the templates embed the json schemas of models and parameters.
+        setSkipJsonSchema(false);
         if (StringUtils.isBlank(templateDir)) {
             embeddedTemplateDir = templateDir = getTemplateDir();
         }
@@ -8,8 +8,11 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.generators.CodegenHelper;
 import io.swagger.codegen.v3.generators.handlebars.java.JavaHelper;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
+import io.swagger.codegen.v3.generators.util.SanitizationRules;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -29,12 +32,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static io.swagger.codegen.v3.CodegenConstants.HAS_ENUMS_EXT_NAME;
@@ -50,6 +55,37 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     public static final String WITH_XML = "withXml";
     public static final String SUPPORT_JAVA6 = "supportJava6";
 
+    // shared by the Java generators until they change them.
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            // used as internal variables, can collide with parameter names
+            "localVarPath", "localVarQueryParams", "localVarCollectionQueryParams",
+            "localVarHeaderParams", "localVarFormParams", "localVarPostBody",
+            "localVarAccepts", "localVarAccept", "localVarContentTypes",
+            "localVarContentType", "localVarAuthNames", "localReturnType",
+            "ApiClient", "ApiException", "ApiResponse", "Configuration", "StringUtil",
+
+            // language reserved words
+            "abstract", "continue", "for", "new", "switch", "assert",
+            "default", "if", "package", "synchronized", "boolean", "do", "goto", "private",
+            "this", "break", "double", "implements", "protected", "throw", "byte", "else",
+            "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
+            "catch", "extends", "int", "short", "try", "char", "final", "interface", "static",
+            "void", "class", "finally", "long", "strictfp", "volatile", "const", "float",
+            "native", "super", "while", "null");
+    private static final Set<String> LANGUAGE_SPECIFIC_PRIMITIVES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(
+                    "String",
+                    "boolean",
+                    "Boolean",
+                    "Double",
+                    "Integer",
+                    "Long",
+                    "Float",
+                    "Object",
+                    "byte[]")));
+    private static final Map<String, String> INSTANTIATION_TYPES = Collections.unmodifiableMap(createInstantiationTypes());
+    private static final Map<String, String> TYPE_MAPPING = Collections.unmodifiableMap(createTypeMapping());
+
     protected String dateLibrary = "threetenbp";
     protected boolean java8Mode = false;
     protected boolean withXml = false;
@@ -80,48 +116,17 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
     protected boolean supportJava6= false;
+    private SanitizationRules varNameSanitizationRules;
 
     public AbstractJavaCodegen() {
         super();
         hideGenerationTimestamp = false;
         supportsInheritance = true;
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // used as internal variables, can collide with parameter names
-                        "localVarPath", "localVarQueryParams", "localVarCollectionQueryParams",
-                        "localVarHeaderParams", "localVarFormParams", "localVarPostBody",
-                        "localVarAccepts", "localVarAccept", "localVarContentTypes",
-                        "localVarContentType", "localVarAuthNames", "localReturnType",
-                        "ApiClient", "ApiException", "ApiResponse", "Configuration", "StringUtil",
-
-                        // language reserved words
-                        "abstract", "continue", "for", "new", "switch", "assert",
-                        "default", "if", "package", "synchronized", "boolean", "do", "goto", "private",
-                        "this", "break", "double", "implements", "protected", "throw", "byte", "else",
-                        "import", "public", "throws", "case", "enum", "instanceof", "return", "transient",
-                        "catch", "extends", "int", "short", "try", "char", "final", "interface", "static",
-                        "void", "class", "finally", "long", "strictfp", "volatile", "const", "float",
-                        "native", "super", "while", "null")
-        );
-
-        languageSpecificPrimitives = new HashSet<String>(
-                Arrays.asList(
-                        "String",
-                        "boolean",
-                        "Boolean",
-                        "Double",
-                        "Integer",
-                        "Long",
-                        "Float",
-                        "Object",
-                        "byte[]")
-        );
-        instantiationTypes.put("array", "ArrayList");
-        instantiationTypes.put("map", "HashMap");
-        typeMapping.put("date", "Date");
-        typeMapping.put("file", "File");
-        typeMapping.put("binary", "File");
+        shareReservedWords(RESERVED_WORDS);
+        shareLanguageSpecificPrimitives(LANGUAGE_SPECIFIC_PRIMITIVES);
+        shareInstantiationTypes(INSTANTIATION_TYPES);
+        shareTypeMapping(TYPE_MAPPING);
 
         cliOptions.add(new CliOption(CodegenConstants.MODEL_PACKAGE, CodegenConstants.MODEL_PACKAGE_DESC));
         cliOptions.add(new CliOption(CodegenConstants.API_PACKAGE, CodegenConstants.API_PACKAGE_DESC));
@@ -168,6 +173,21 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         cliOptions.add(java8Mode);
     }
 
+    private static Map<String, String> createInstantiationTypes() {
+        final Map<String, String> instantiationTypes = new HashMap<>();
+        instantiationTypes.put("array", "ArrayList");
+        instantiationTypes.put("map", "HashMap");
+        return instantiationTypes;
+    }
+
+    private static Map<String, String> createTypeMapping() {
+        final Map<String, String> typeMapping = new HashMap<>(CodegenHelper.getTypeMappings());
+        typeMapping.put("date", "Date");
+        typeMapping.put("file", "File");
+        typeMapping.put("binary", "File");
+        return typeMapping;
+    }
+
     @Override
     public void processOpts() {
         if (additionalProperties.containsKey(CodegenConstants.INVOKER_PACKAGE)) {
@@ -1130,25 +1150,14 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         if ("$".equals(name)) {
             return "value";
         }
-        name = name.replaceAll("\\[\\]", StringUtils.EMPTY);
-        name = name.replaceAll("\\[", "_")
-                .replaceAll("\\]", "")
-                .replaceAll("\\(", "_")
-                .replaceAll("\\)", StringUtils.EMPTY)
-                .replaceAll("\\.", "_")
-                .replaceAll("@", "_at_")
-                .replaceAll("-", "_")
-                .replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W-[\\$]", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll(StringUtils.EMPTY);
-        }
-        else {
-            name = name.replaceAll("\\W-[\\$]", StringUtils.EMPTY);
+        if (varNameSanitizationRules == null) {
+            // same as sanitizeName but "@" is spelled out and other non word characters are kept
+            varNameSanitizationRules = sanitizationRules()
+                    .replace("@", "_at_")
+                    .nonWordCharacters(SanitizationRules.NonWordCharacters.KEEP)
+                    .build();
         }
-        return name;
+        return varNameSanitizationRules.sanitize(name);
     }
 
     private static CodegenModel reconcileInlineEnums(CodegenModel codegenModel, CodegenModel parentCodegenModel) {
@@ -2,6 +2,7 @@ package io.swagger.codegen.v3.generators.java;
 
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenContent;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
@@ -11,7 +12,6 @@ import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
 import io.swagger.codegen.v3.generators.features.GzipFeatures;
 import io.swagger.codegen.v3.generators.features.PerformBeanValidationFeatures;
-import io.swagger.codegen.v3.generators.util.OpenAPIUtil;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -34,6 +35,10 @@ import static java.util.Collections.sort;
 
 public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValidationFeatures, PerformBeanValidationFeatures, GzipFeatures {
     static final String MEDIA_TYPE = "mediaType";
+    static final String STREAMING_TYPE = "InputStream";
+    static final String REACTIVE_RETURN_TYPE_EXT_NAME = "x-reactive-return-type";
+    static final String REACTIVE_ELEMENT_TYPE_EXT_NAME = "x-reactive-element-type";
+    static final String IS_FLUX_EXT_NAME = "x-is-flux";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaClientCodegen.class);
 
@@ -44,12 +49,16 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     public static final String PLAY_VERSION = "playVersion";
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
+    public static final String USE_POOLED_CONNECTOR = "usePooledConnector";
+    public static final String USE_STREAMING_BODIES = "useStreamingBodies";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
 
     public static final String RETROFIT_1 = "retrofit";
     public static final String RETROFIT_2 = "retrofit2";
+    public static final String NATIVE = "native";
+    public static final String WEBCLIENT = "webclient";
 
     protected String gradleWrapperPackage = "gradle.wrapper";
     protected boolean useRxJava = false;
@@ -62,6 +71,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
     protected boolean performBeanValidation = false;
     protected boolean useGzipFeature = false;
     protected boolean useRuntimeException = false;
+    protected boolean usePooledConnector = false;
+    protected boolean useStreamingBodies = false;
 
 
     public JavaClientCodegen() {
@@ -82,6 +93,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Perform BeanValidation"));
         cliOptions.add(CliOption.newBoolean(USE_GZIP_FEATURE, "Send gzip-encoded requests"));
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
+        cliOptions.add(CliOption.newBoolean(USE_POOLED_CONNECTOR, "Whether to use the pooling Apache HttpClient connector with the jersey2 library."));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_BODIES, "Whether to stream binary and file bodies as InputStream instead of buffering them, with the jersey2 and okhttp-gson libraries."));
 
         supportedLibraries.put("jersey1", "HTTP client: Jersey client 1.19.4. JSON processing: Jackson 2.9.10. Enable Java6 support using '-DsupportJava6=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put("feign", "HTTP client: OpenFeign 9.4.0. JSON processing: Jackson 2.9.10");
@@ -91,6 +104,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         supportedLibraries.put(RETROFIT_2, "HTTP client: OkHttp 3.8.0. JSON processing: Gson 2.6.1 (Retrofit 2.3.0). Enable the RxJava adapter using '-DuseRxJava[2]=true'. (RxJava 1.x or 2.x)");
         supportedLibraries.put("resttemplate", "HTTP client: Spring RestTemplate 4.3.9-RELEASE. JSON processing: Jackson 2.9.9");
         supportedLibraries.put("resteasy", "HTTP client: Resteasy client 3.1.3.Final. JSON processing: Jackson 2.9.9");
+        supportedLibraries.put(NATIVE, "HTTP client: Java 11 native java.net.http.HttpClient (HTTP/2, async CompletableFuture methods). JSON processing: Jackson 2.9.10");
+        supportedLibraries.put(WEBCLIENT, "HTTP client: Spring WebClient 5.2.9.RELEASE on Reactor Netty (non-blocking, Mono/Flux methods). JSON processing: Jackson 2.10.5");
 
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
         libraryOption.setEnum(supportedLibraries);
@@ -118,6 +133,19 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
 
     @Override
     public void processOpts() {
+        // Process library option before common java ones to change the defaults of the native and webclient libraries to java8.
+        if (additionalProperties.containsKey(CodegenConstants.LIBRARY)) {
+            this.setLibrary((String) additionalProperties.get(CodegenConstants.LIBRARY));
+        }
+        if (NATIVE.equals(getLibrary()) || WEBCLIENT.equals(getLibrary())) {
+            if (!additionalProperties.containsKey(JAVA8_MODE)) {
+                additionalProperties.put(JAVA8_MODE, "true");
+            }
+            if (!additionalProperties.containsKey(DATE_LIBRARY)) {
+                setDateLibrary("java8");
+            }
+        }
+
         super.processOpts();
         if (StringUtils.isBlank(templateDir)) {
             String templateVersion = getTemplateVersion();
@@ -167,6 +195,20 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             this.setUseRuntimeException(convertPropertyToBooleanAndWriteBack(USE_RUNTIME_EXCEPTION));
         }
 
+        if (additionalProperties.containsKey(USE_POOLED_CONNECTOR)) {
+            this.setUsePooledConnector(convertPropertyToBooleanAndWriteBack(USE_POOLED_CONNECTOR));
+            if (usePooledConnector && !"jersey2".equals(getLibrary())) {
+                LOGGER.warn(USE_POOLED_CONNECTOR + " is only supported by the jersey2 library, ignoring it.");
+            }
+        }
+
+        if (additionalProperties.containsKey(USE_STREAMING_BODIES)) {
+            this.setUseStreamingBodies(convertPropertyToBooleanAndWriteBack(USE_STREAMING_BODIES));
+            if (useStreamingBodies && !supportsStreamingBodies()) {
+                LOGGER.warn(USE_STREAMING_BODIES + " is only supported by the jersey2 and okhttp-gson libraries, ignoring it.");
+            }
+        }
+
         final String invokerFolder = (sourceFolder + File.separator + invokerPackage).replace(".", File.separator);
         final String authFolder = (sourceFolder + File.separator + invokerPackage + ".auth").replace(".", File.separator);
         final String apiFolder = (sourceFolder + File.separator + apiPackage).replace(".", File.separator);
@@ -181,7 +223,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         writeOptional(outputFolder, new SupportingFile("manifest.mustache", projectFolder, "AndroidManifest.xml"));
         supportingFiles.add(new SupportingFile("travis.mustache", "", ".travis.yml"));
         supportingFiles.add(new SupportingFile("ApiClient.mustache", invokerFolder, "ApiClient.java"));
-        if(!"resttemplate".equals(getLibrary())) {
+        if(!usesSpringWebLibrary()) {
             supportingFiles.add(new SupportingFile("StringUtil.mustache", invokerFolder, "StringUtil.java"));
         }
 
@@ -210,7 +252,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             apiDocTemplateFiles.remove("api_doc.mustache");
         }
 
-        if (!("feign".equals(getLibrary()) || "resttemplate".equals(getLibrary()) || usesAnyRetrofitLibrary())) {
+        if (!("feign".equals(getLibrary()) || usesSpringWebLibrary() || usesAnyRetrofitLibrary())) {
             supportingFiles.add(new SupportingFile("apiException.mustache", invokerFolder, "ApiException.java"));
             supportingFiles.add(new SupportingFile("Configuration.mustache", invokerFolder, "Configuration.java"));
             supportingFiles.add(new SupportingFile("Pair.mustache", invokerFolder, "Pair.java"));
@@ -242,7 +284,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             additionalProperties.put("jackson", "true");
         } else if("jersey1".equals(getLibrary())) {
             additionalProperties.put("jackson", "true");
-        } else if("resttemplate".equals(getLibrary())) {
+        } else if (NATIVE.equals(getLibrary())) {
+            supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
+            additionalProperties.put("jackson", "true");
+        } else if(usesSpringWebLibrary()) {
             additionalProperties.put("jackson", "true");
             supportingFiles.add(new SupportingFile("auth/Authentication.mustache", authFolder, "Authentication.java"));
         } else {
@@ -303,6 +348,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         return getLibrary() != null && getLibrary().contains(RETROFIT_2);
     }
 
+    private boolean usesSpringWebLibrary() {
+        return "resttemplate".equals(getLibrary()) || WEBCLIENT.equals(getLibrary());
+    }
+
+    private boolean supportsStreamingBodies() {
+        return "jersey2".equals(getLibrary()) || "okhttp-gson".equals(getLibrary()) || StringUtils.isEmpty(getLibrary());
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
@@ -357,6 +410,31 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
 
         }
 
+        if (useStreamingBodies && supportsStreamingBodies()) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            boolean streaming = false;
+            for (CodegenOperation operation : operationList) {
+                streaming |= streamBodies(operation);
+            }
+            List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+            if (streaming && imports != null) {
+                Map<String, String> inputStreamImport = new HashMap<>();
+                inputStreamImport.put("import", "java.io.InputStream");
+                if (!imports.contains(inputStreamImport)) {
+                    imports.add(inputStreamImport);
+                }
+            }
+        }
+
+        if (WEBCLIENT.equals(getLibrary())) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation operation : operationList) {
+                setReactiveReturnType(operation);
+            }
+        }
+
         // camelize path variables for Feign client
         if ("feign".equals(getLibrary())) {
             Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
@@ -378,6 +456,75 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         return objs;
     }
 
+    /**
+     * Makes the binary and file responses of the operation returned, and its binary and file parameters sent, as
+     * an <code>InputStream</code>.
+     *
+     * @return whether the operation streams a body
+     */
+    private boolean streamBodies(CodegenOperation operation) {
+        boolean streaming = false;
+        if (getBooleanValue(operation, CodegenConstants.IS_RESPONSE_BINARY_EXT_NAME) || getBooleanValue(operation, CodegenConstants.IS_RESPONSE_FILE_EXT_NAME)) {
+            operation.returnType = STREAMING_TYPE;
+            operation.returnBaseType = STREAMING_TYPE;
+            streaming = true;
+        }
+        final List<List<CodegenParameter>> parameterLists = new ArrayList<>();
+        parameterLists.add(operation.allParams);
+        parameterLists.add(operation.bodyParams);
+        parameterLists.add(operation.formParams);
+        parameterLists.add(operation.requiredParams);
+        if (operation.getContents() != null) {
+            for (CodegenContent content : operation.getContents()) {
+                parameterLists.add(content.getParameters());
+            }
+        }
+        if (operation.bodyParam != null) {
+            parameterLists.add(Collections.singletonList(operation.bodyParam));
+        }
+        for (List<CodegenParameter> parameters : parameterLists) {
+            if (parameters == null) {
+                continue;
+            }
+            for (CodegenParameter parameter : parameters) {
+                if (getBooleanValue(parameter, CodegenConstants.IS_BINARY_EXT_NAME) || getBooleanValue(parameter, CodegenConstants.IS_FILE_EXT_NAME)) {
+                    parameter.dataType = STREAMING_TYPE;
+                    streaming = true;
+                }
+            }
+        }
+        return streaming;
+    }
+
+    /**
+     * Sets the <code>Mono</code> or <code>Flux</code> type returned by the operation with the webclient library.
+     * Array responses are returned as a <code>Flux</code> of their items, decoded as they are received, file
+     * responses as a <code>byte[]</code>.
+     */
+    private void setReactiveReturnType(CodegenOperation operation) {
+        if (getBooleanValue(operation, CodegenConstants.IS_RESPONSE_FILE_EXT_NAME)) {
+            // WebClient has no decoder writing the response to a file.
+            operation.returnType = "byte[]";
+            operation.returnBaseType = "byte[]";
+        }
+        final String returnType = operation.returnType;
+        final boolean isFlux = returnType != null && getBooleanValue(operation, CodegenConstants.IS_LIST_CONTAINER_EXT_NAME)
+                && returnType.indexOf('<') > 0 && returnType.endsWith(">");
+        final String elementType;
+        if (isFlux) {
+            elementType = returnType.substring(returnType.indexOf('<') + 1, returnType.length() - 1);
+        } else {
+            elementType = returnType == null ? "Void" : returnType;
+        }
+        operation.getVendorExtensions().put(IS_FLUX_EXT_NAME, isFlux);
+        operation.getVendorExtensions().put(REACTIVE_ELEMENT_TYPE_EXT_NAME, elementType);
+        operation.getVendorExtensions().put(REACTIVE_RETURN_TYPE_EXT_NAME, (isFlux ? "Flux<" : "Mono<") + elementType + ">");
+    }
+
+    public void setUseStreamingBodies(boolean useStreamingBodies) {
+        this.useStreamingBodies = useStreamingBodies;
+    }
+
     @Override
     public String apiFilename(String templateName, String tag) {
         return super.apiFilename(templateName, tag);
@@ -536,7 +683,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
             parent.put("discriminator", parentModel.discriminator);
             if(parentModel.discriminator != null && parentModel.discriminator.getMapping() != null)
             {
-                parentModel.discriminator.getMapping().replaceAll((key, value) -> OpenAPIUtil.getSimpleRef(value));
+                parentModel.discriminator.getMapping().replaceAll((key, value) -> getRefIndex().getName(value));
             }
             parentsList.add(parent);
         }
@@ -585,6 +732,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         this.useRuntimeException = useRuntimeException;
     }
 
+    public void setUsePooledConnector(boolean usePooledConnector) {
+        this.usePooledConnector = usePooledConnector;
+    }
+
     final private static Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)application\\/json(;.*)?");
     final private static Pattern JSON_VENDOR_MIME_PATTERN = Pattern.compile("(?i)application\\/vnd.(.*)+json(;.*)?");
 
@@ -43,6 +43,7 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
     public static final String IMPLICIT_HEADERS = "implicitHeaders";
     public static final String SWAGGER_DOCKET_CONFIG = "swaggerDocketConfig";
     public static final String TARGET_OPENFEIGN = "generateForOpenFeign";
+    public static final String REACTIVE = "reactive";
 
     protected String title = "swagger-petstore";
     protected String configPackage = "io.swagger.configuration";
@@ -60,6 +61,7 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
     protected boolean swaggerDocketConfig = false;
     protected boolean useOptional = false;
     protected boolean openFeign = false;
+    protected boolean reactive = false;
 
     public Spring2Codegen() {
         super();
@@ -91,6 +93,7 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
         cliOptions.add(CliOption.newBoolean(USE_OPTIONAL,
                 "Use Optional container for optional parameters"));
         cliOptions.add(CliOption.newBoolean(TARGET_OPENFEIGN,"Generate for usage with OpenFeign (instead of feign)"));
+        cliOptions.add(CliOption.newBoolean(REACTIVE, "Generate Spring WebFlux controllers returning Mono/Flux on a Netty server (spring-boot library only, implies java8)"));
 
         supportedLibraries.put(DEFAULT_LIBRARY, "Spring-boot Server application using the SpringFox integration.");
         supportedLibraries.put(SPRING_MVC_LIBRARY, "Spring-MVC Server application using the SpringFox integration.");
@@ -128,6 +131,14 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
         if (additionalProperties.containsKey(JAVA_8)) {
             this.setJava8(Boolean.valueOf(additionalProperties.get(JAVA_8).toString()));
         }
+        if (additionalProperties.containsKey(REACTIVE)) {
+            this.setReactive(convertPropertyToBoolean(REACTIVE));
+        }
+        if (this.reactive) {
+            // WebFlux default methods and Mono/Flux signatures require java 8
+            this.setJava8(true);
+            additionalProperties.put(JAVA_8, true);
+        }
         if (this.java8) {
             additionalProperties.put("javaVersion", "1.8");
             additionalProperties.put("jdk8", "true");
@@ -187,6 +198,21 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
             this.setAsync(Boolean.valueOf(additionalProperties.get(ASYNC).toString()));
         }
 
+        if (this.reactive) {
+            if (!library.equals(DEFAULT_LIBRARY)) {
+                throw new IllegalArgumentException(
+                        String.format("Can not generate code with `%s` true for library `%s`, only `%s` is supported.",
+                                REACTIVE, library, DEFAULT_LIBRARY));
+            }
+            if (this.async || additionalProperties.containsKey(RESPONSE_WRAPPER)) {
+                LOGGER.warn("`" + ASYNC + "` and `" + RESPONSE_WRAPPER + "` are ignored when `" + REACTIVE + "` is true, responses are wrapped in Mono/Flux");
+            }
+            this.setAsync(false);
+            additionalProperties.remove(ASYNC);
+            additionalProperties.remove(RESPONSE_WRAPPER);
+            writePropertyBack(REACTIVE, true);
+        }
+
         if (additionalProperties.containsKey(RESPONSE_WRAPPER)) {
             this.setResponseWrapper((String) additionalProperties.get(RESPONSE_WRAPPER));
         }
@@ -243,8 +269,13 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
         if (!this.interfaceOnly) {
 
             if (library.equals(DEFAULT_LIBRARY)) {
-                supportingFiles.add(new SupportingFile("homeController.mustache",
-                        (sourceFolder + File.separator + configPackage).replace(".", File.separator), "HomeController.java"));
+                if (this.reactive) {
+                    supportingFiles.add(new SupportingFile("reactive/nettyConfiguration.mustache",
+                            (sourceFolder + File.separator + configPackage).replace(".", File.separator), "NettyConfiguration.java"));
+                } else {
+                    supportingFiles.add(new SupportingFile("homeController.mustache",
+                            (sourceFolder + File.separator + configPackage).replace(".", File.separator), "HomeController.java"));
+                }
                 supportingFiles.add(new SupportingFile("swagger2SpringBoot.mustache",
                         (sourceFolder + File.separator + basePackage).replace(".", File.separator), "Swagger2SpringBoot.java"));
                 supportingFiles.add(new SupportingFile("RFC3339DateFormat.mustache",
@@ -284,12 +315,15 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
                         (sourceFolder + File.separator + apiPackage).replace(".", File.separator), "ApiResponseMessage.java"));
                 supportingFiles.add(new SupportingFile("notFoundException.mustache",
                         (sourceFolder + File.separator + apiPackage).replace(".", File.separator), "NotFoundException.java"));
-                supportingFiles.add(new SupportingFile("apiOriginFilter.mustache",
-                        (sourceFolder + File.separator + apiPackage).replace(".", File.separator), "ApiOriginFilter.java"));
-                supportingFiles.add(new SupportingFile("swaggerDocumentationConfig.mustache",
-                        (sourceFolder + File.separator + configPackage).replace(".", File.separator), "SwaggerDocumentationConfig.java"));
+                if (!this.reactive) {
+                    // servlet filter and SpringFox docket are not available on WebFlux
+                    supportingFiles.add(new SupportingFile("apiOriginFilter.mustache",
+                            (sourceFolder + File.separator + apiPackage).replace(".", File.separator), "ApiOriginFilter.java"));
+                    supportingFiles.add(new SupportingFile("swaggerDocumentationConfig.mustache",
+                            (sourceFolder + File.separator + configPackage).replace(".", File.separator), "SwaggerDocumentationConfig.java"));
+                }
             }
-        } else if ( this.swaggerDocketConfig && !library.equals(SPRING_CLOUD_LIBRARY)) {
+        } else if ( this.swaggerDocketConfig && !this.reactive && !library.equals(SPRING_CLOUD_LIBRARY)) {
             supportingFiles.add(new SupportingFile("swaggerDocumentationConfig.mustache",
                     (sourceFolder + File.separator + configPackage).replace(".", File.separator), "SwaggerDocumentationConfig.java"));
         }
@@ -313,6 +347,19 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
             apiTemplateFiles.put("apiDelegate.mustache", "Delegate.java");
         }
 
+        if (this.reactive) {
+            apiTemplateFiles.remove("api.mustache");
+            apiTemplateFiles.put("reactive/api.mustache", ".java");
+            apiTestTemplateFiles.remove("api_test.mustache");
+            apiTestTemplateFiles.put("reactive/api_test.mustache", ".java");
+            if (apiTemplateFiles.remove("apiController.mustache") != null) {
+                apiTemplateFiles.put("reactive/apiController.mustache", "Controller.java");
+            }
+            if (apiTemplateFiles.remove("apiDelegate.mustache") != null) {
+                apiTemplateFiles.put("reactive/apiDelegate.mustache", "Delegate.java");
+            }
+        }
+
         if (this.java8) {
             additionalProperties.put("javaVersion", "1.8");
             additionalProperties.put("jdk8", "true");
@@ -757,6 +804,10 @@ public class Spring2Codegen extends AbstractJavaCodegen implements BeanValidatio
         this.useOptional = useOptional;
     }
 
+    public void setReactive(boolean reactive) {
+        this.reactive = reactive;
+    }
+
     public void setOpenFeign(boolean openFeign) {
         this.openFeign = openFeign;
     }
@@ -143,6 +143,14 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
         setUseOas2(true);
         additionalProperties.put(CodegenConstants.USE_OAS2, true);
 
+        // WebFlux requires Spring 5, which Spring Boot 1 does not ship.
+        if (additionalProperties.containsKey(Spring2Codegen.REACTIVE)) {
+            if (convertPropertyToBoolean(Spring2Codegen.REACTIVE)) {
+                LOGGER.warn("`" + Spring2Codegen.REACTIVE + "` is not supported by " + getName() + ", use spring2 to generate WebFlux controllers");
+            }
+            additionalProperties.remove(Spring2Codegen.REACTIVE);
+        }
+
         // Process java8 option before common java ones to change the default dateLibrary to java8.
         if (additionalProperties.containsKey(JAVA_8)) {
             this.setJava8(Boolean.valueOf(additionalProperties.get(JAVA_8).toString()));
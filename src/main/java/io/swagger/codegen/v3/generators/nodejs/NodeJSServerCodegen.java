@@ -16,6 +16,7 @@ import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -31,7 +32,6 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -41,6 +41,13 @@ import java.util.Map.Entry;
 import java.util.regex.Pattern;
 
 public class NodeJSServerCodegen extends DefaultCodegenConfig {
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            "break", "case", "class", "catch", "const", "continue", "debugger",
+            "default", "delete", "do", "else", "export", "extends", "finally",
+            "for", "function", "if", "import", "in", "instanceof", "let", "new",
+            "return", "super", "switch", "this", "throw", "try", "typeof", "var",
+            "void", "while", "with", "yield");
+
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeJSServerCodegen.class);
     protected String implFolder = "service";
     public static final String GOOGLE_CLOUD_FUNCTIONS = "googleCloudFunctions";
@@ -81,14 +88,7 @@ public class NodeJSServerCodegen extends DefaultCodegenConfig {
         /*
          * Reserved words.  Override this with reserved words specific to your language
          */
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        "break", "case", "class", "catch", "const", "continue", "debugger",
-                        "default", "delete", "do", "else", "export", "extends", "finally",
-                        "for", "function", "if", "import", "in", "instanceof", "let", "new",
-                        "return", "super", "switch", "this", "throw", "try", "typeof", "var",
-                        "void", "while", "with", "yield")
-        );
+        shareReservedWords(RESERVED_WORDS);
 
         /*
          * Additional Properties.  These values can be passed to the templates and
@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.HashSet;
 import java.util.regex.Matcher;
 
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +26,14 @@ import org.slf4j.LoggerFactory;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            // local variables used in api methods (endpoints)
+            "resourcePath", "httpBody", "queryParams", "headerParams",
+            "formParams", "_header_accept", "_tempBody",
+
+            // PHP reserved words
+            "__halt_compiler", "abstract", "and", "array", "as", "break", "callable", "case", "catch", "class", "clone", "const", "continue", "declare", "default", "die", "do", "echo", "else", "elseif", "empty", "enddeclare", "endfor", "endforeach", "endif", "endswitch", "endwhile", "eval", "exit", "extends", "final", "for", "foreach", "function", "global", "goto", "if", "implements", "include", "include_once", "instanceof", "insteadof", "interface", "isset", "list", "namespace", "new", "or", "print", "private", "protected", "public", "require", "require_once", "return", "static", "switch", "throw", "trait", "try", "unset", "use", "var", "while", "xor");
+
     private static Logger LOGGER = LoggerFactory.getLogger(AbstractPhpCodegen.class);
 
     public static final String VARIABLE_NAMING_CONVENTION = "variableNamingConvention";
@@ -59,15 +68,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         apiPackage = invokerPackage + "\\" + apiDirName;
         modelPackage = invokerPackage + "\\" + modelDirName;
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                    // local variables used in api methods (endpoints)
-                    "resourcePath", "httpBody", "queryParams", "headerParams",
-                    "formParams", "_header_accept", "_tempBody",
-
-                    // PHP reserved words
-                    "__halt_compiler", "abstract", "and", "array", "as", "break", "callable", "case", "catch", "class", "clone", "const", "continue", "declare", "default", "die", "do", "echo", "else", "elseif", "empty", "enddeclare", "endfor", "endforeach", "endif", "endswitch", "endwhile", "eval", "exit", "extends", "final", "for", "foreach", "function", "global", "goto", "if", "implements", "include", "include_once", "instanceof", "insteadof", "interface", "isset", "list", "namespace", "new", "or", "print", "private", "protected", "public", "require", "require_once", "return", "static", "switch", "throw", "trait", "try", "unset", "use", "var", "while", "xor")
-        );
+        shareReservedWords(RESERVED_WORDS);
 
         // ref: http://php.net/manual/en/language.types.intro.php
         languageSpecificPrimitives = new HashSet<String>(
@@ -90,7 +91,6 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         instantiationTypes.put("array", "array");
         instantiationTypes.put("map", "map");
 
-
         // provide primitives to mustache template
         String primitives = "'" + StringUtils.join(languageSpecificPrimitives, "', '") + "'";
         additionalProperties.put("primitives", primitives);
@@ -397,7 +397,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
         // parameter name starting with number won't compile
         // need to escape it by appending _ at the beginning
-        if (name.matches("^\\d.*")) {
+        if (!name.isEmpty() && name.charAt(0) >= '0' && name.charAt(0) <= '9') {
             name = "_" + name;
         }
 
@@ -412,14 +412,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
     @Override
     public String toModelName(String name) {
-        // remove [
-        name = name.replaceAll("\\]", "");
-
-        // Note: backslash ("\\") is allowed for e.g. "\\DateTime"
-        name = name.replaceAll("[^\\w\\\\]+", "_"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // remove dollar sign
-        name = name.replaceAll("$", "");
+        name = sanitizeModelName(name); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
 
         // model name cannot use reserved keyword
         if (isReservedWord(name)) {
@@ -428,13 +421,13 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         }
 
         // model name starts with number
-        if (name.matches("^\\d.*")) {
+        if (!name.isEmpty() && name.charAt(0) >= '0' && name.charAt(0) <= '9') {
             LOGGER.warn(name + " (model name starts with number) cannot be used as model name. Renamed to " + camelize("model_" + name));
             name = "model_" + name; // e.g. 200Response => Model200Response (after camelize)
         }
 
         // add prefix and/or suffic only if name does not start wth \ (e.g. \DateTime)
-        if (!name.matches("^\\\\.*")) {
+        if (!name.startsWith("\\")) {
             name = modelNamePrefix + name + modelNameSuffix;
         }
 
@@ -443,6 +436,41 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         return camelize(name);
     }
 
+    /**
+     * Removes the "]" of the name and replaces every run of other characters than (ASCII) word characters and
+     * backslashes by "_", in a single pass. Note: backslash ("\\") is allowed for e.g. "\\DateTime".
+     */
+    private static String sanitizeModelName(String name) {
+        StringBuilder sanitized = null;
+        boolean replacing = false;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            final boolean kept = c == '\\' || c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (kept && sanitized == null) {
+                continue;
+            }
+            if (sanitized == null) {
+                sanitized = new StringBuilder(name.length()).append(name, 0, i);
+            }
+            if (kept) {
+                if (replacing) {
+                    sanitized.append('_');
+                    replacing = false;
+                }
+                sanitized.append(c);
+            } else if (c != ']') {
+                replacing = true;
+            }
+        }
+        if (sanitized == null) {
+            return name;
+        }
+        if (replacing) {
+            sanitized.append('_');
+        }
+        return sanitized.toString();
+    }
+
     @Override
     public String toModelFilename(String name) {
         // should be the same as the model name
@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.DateSchema;
@@ -24,7 +25,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +33,18 @@ import java.util.regex.Pattern;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public class PythonClientCodegen extends DefaultCodegenConfig {
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            // local variable name used in API methods (endpoints)
+            "all_params", "resource_path", "path_params", "query_params",
+            "header_params", "form_params", "local_var_files", "body_params",  "auth_settings",
+            // @property
+            "property",
+            // python reserved words
+            "and", "del", "from", "not", "while", "as", "elif", "global", "or", "with",
+            "assert", "else", "if", "pass", "yield", "break", "except", "import",
+            "print", "class", "exec", "in", "raise", "continue", "finally", "is",
+            "return", "def", "for", "lambda", "try", "self", "nonlocal", "None", "True", "nonlocal",
+            "float", "int", "str", "date", "datetime");
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonClientCodegen.class);
 
@@ -112,19 +124,7 @@ public class PythonClientCodegen extends DefaultCodegenConfig {
         typeMapping.put("UUID", "str");
 
         // from https://docs.python.org/3/reference/lexical_analysis.html#keywords
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // local variable name used in API methods (endpoints)
-                        "all_params", "resource_path", "path_params", "query_params",
-                        "header_params", "form_params", "local_var_files", "body_params",  "auth_settings",
-                        // @property
-                        "property",
-                        // python reserved words
-                        "and", "del", "from", "not", "while", "as", "elif", "global", "or", "with",
-                        "assert", "else", "if", "pass", "yield", "break", "except", "import",
-                        "print", "class", "exec", "in", "raise", "continue", "finally", "is",
-                        "return", "def", "for", "lambda", "try", "self", "nonlocal", "None", "True", "nonlocal",
-                        "float", "int", "str", "date", "datetime"));
+        shareReservedWords(RESERVED_WORDS);
 
         regexModifiers = new HashMap<Character, String>();
         regexModifiers.put('i', "IGNORECASE");
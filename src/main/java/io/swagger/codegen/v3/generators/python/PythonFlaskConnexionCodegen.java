@@ -17,12 +17,12 @@ import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -38,6 +38,15 @@ import org.slf4j.LoggerFactory;
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            // @property
+            "property",
+            // python reserved words
+            "and", "del", "from", "not", "while", "as", "elif", "global", "or", "with",
+            "assert", "else", "if", "pass", "yield", "break", "except", "import",
+            "print", "class", "exec", "in", "raise", "continue", "finally", "is",
+            "return", "def", "for", "lambda", "try", "self", "None", "True", "False", "nonlocal",
+            "float", "int", "str", "date", "datetime");
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonFlaskConnexionCodegen.class);
 
@@ -92,16 +101,7 @@ public class PythonFlaskConnexionCodegen extends DefaultCodegenConfig {
         typeMapping.put("ByteArray", "bytearray");
 
         // from https://docs.python.org/3/reference/lexical_analysis.html#keywords
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // @property
-                        "property",
-                        // python reserved words
-                        "and", "del", "from", "not", "while", "as", "elif", "global", "or", "with",
-                        "assert", "else", "if", "pass", "yield", "break", "except", "import",
-                        "print", "class", "exec", "in", "raise", "continue", "finally", "is",
-                        "return", "def", "for", "lambda", "try", "self", "None", "True", "False", "nonlocal",
-                        "float", "int", "str", "date", "datetime"));
+        shareReservedWords(RESERVED_WORDS);
 
         // set the output folder here
         outputFolder = "generated-code/connexion";
@@ -5,15 +5,26 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.LowerCaseWords;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.util.Arrays;
 import java.util.HashMap;
 
 public class ScalaClientCodegen extends AbstractScalaCodegen {
+    private static final LowerCaseWords RESERVED_WORDS = LowerCaseWords.of(
+            // local variable names used in API methods (endpoints)
+            "path", "contentTypes", "contentType", "queryParams", "headerParams",
+            "formParams", "postBody", "mp", "basePath", "apiInvoker",
+
+            // scala reserved words
+            "abstract", "case", "catch", "class", "def", "do", "else", "extends",
+            "false", "final", "finally", "for", "forSome", "if", "implicit",
+            "import", "lazy", "match", "new", "null", "object", "override", "package",
+            "private", "protected", "return", "sealed", "super", "this", "throw",
+            "trait", "try", "true", "type", "val", "var", "while", "with", "yield");
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScalaClientCodegen.class);
 
@@ -35,19 +46,7 @@ public class ScalaClientCodegen extends AbstractScalaCodegen {
         apiPackage = "io.swagger.client.api";
         modelPackage = "io.swagger.client.model";
 
-        setReservedWordsLowerCase(
-                Arrays.asList(
-                        // local variable names used in API methods (endpoints)
-                        "path", "contentTypes", "contentType", "queryParams", "headerParams",
-                        "formParams", "postBody", "mp", "basePath", "apiInvoker",
-
-                        // scala reserved words
-                        "abstract", "case", "catch", "class", "def", "do", "else", "extends",
-                        "false", "final", "finally", "for", "forSome", "if", "implicit",
-                        "import", "lazy", "match", "new", "null", "object", "override", "package",
-                        "private", "protected", "return", "sealed", "super", "this", "throw",
-                        "trait", "try", "true", "type", "val", "var", "while", "with", "yield")
-        );
+        shareReservedWords(RESERVED_WORDS);
 
         additionalProperties.put(CodegenConstants.INVOKER_PACKAGE, invokerPackage);
         additionalProperties.put(CodegenConstants.GROUP_ID, groupId);
@@ -0,0 +1,97 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe, size bounded memo for pure functions (naming helpers and the like) whose results
+ * are cheap to recompute but requested over and over with the same arguments during a run.
+ *
+ * Lookups and inserts go straight to a {@link ConcurrentHashMap}, so concurrent callers (the parallel model and
+ * operation conversion) don't serialize on the cache. Eviction approximates LRU with the clock algorithm: a lookup
+ * marks its entry as referenced, and once the cache grows past its size one thread sweeps it, giving referenced
+ * entries a second chance and dropping the others until an eighth of the capacity is free again. The cache may
+ * briefly hold a few entries more than its size while another thread is sweeping.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int MAX_SWEEPS = 2;
+
+    private final int maxSize;
+    private final int sweepTarget;
+    private final ConcurrentHashMap<K, Node<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public BoundedCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.sweepTarget = maxSize - maxSize / 8;
+    }
+
+    public V get(K key) {
+        final Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!node.referenced) {
+            // only written when it changes, so hot entries don't keep invalidating the cache line.
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Node<>(value));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public V remove(K key) {
+        final Node<V> node = entries.remove(key);
+        return node == null ? null : node.value;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // some other thread is already making room.
+            return;
+        }
+        try {
+            for (int sweep = 0; entries.size() > sweepTarget; sweep++) {
+                final boolean secondChance = sweep < MAX_SWEEPS;
+                final Iterator<Node<V>> iterator = entries.values().iterator();
+                while (iterator.hasNext() && entries.size() > sweepTarget) {
+                    final Node<V> node = iterator.next();
+                    if (secondChance && node.referenced) {
+                        node.referenced = false;
+                    } else {
+                        iterator.remove();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static class Node<V> {
+        private final V value;
+        private volatile boolean referenced;
+
+        Node(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Vendor extensions of a codegen object storing the boolean values of the known flags (see {@link VendorExtensionFlag})
+ * as bits, any other entry in a regular map. Templates and generators see a regular map, flags are read back as
+ * {@link Boolean#TRUE} and {@link Boolean#FALSE}.
+ */
+public class CompactVendorExtensions extends AbstractMap<String, Object> {
+
+    private static final VendorExtensionFlag[] FLAGS = VendorExtensionFlag.values();
+    private static final int WORDS = (FLAGS.length + Long.SIZE - 1) / Long.SIZE;
+
+    // the bits of the flags which are set, followed by their values.
+    private final long[] flags = new long[WORDS * 2];
+    private Map<String, Object> others;
+
+    public CompactVendorExtensions() {
+    }
+
+    public CompactVendorExtensions(Map<String, ?> vendorExtensions) {
+        if (vendorExtensions != null) {
+            for (Map.Entry<String, ?> entry : vendorExtensions.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Reads a flag the way {@link io.swagger.codegen.v3.generators.handlebars.ExtensionHelper} does: <code>true</code>
+     * if the value is <code>true</code> or its string is <code>"true"</code> (ignoring case).
+     */
+    public boolean getBoolean(String key) {
+        final VendorExtensionFlag flag = VendorExtensionFlag.of(key);
+        if (flag != null && isSet(flag)) {
+            return getValue(flag);
+        }
+        final Object value = others == null ? null : others.get(key);
+        if (value == null) {
+            return false;
+        }
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
+    }
+
+    @Override
+    public Object get(Object key) {
+        final VendorExtensionFlag flag = VendorExtensionFlag.of(key);
+        if (flag != null && isSet(flag)) {
+            return getValue(flag);
+        }
+        return others == null ? null : others.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        final VendorExtensionFlag flag = VendorExtensionFlag.of(key);
+        if (flag != null && isSet(flag)) {
+            return true;
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final VendorExtensionFlag flag = VendorExtensionFlag.of(key);
+        final Object previous = get(key);
+        if (flag != null && value instanceof Boolean) {
+            if (others != null) {
+                others.remove(key);
+            }
+            set(flag, (Boolean) value);
+        } else {
+            if (flag != null) {
+                unset(flag);
+            }
+            if (others == null) {
+                others = new HashMap<>();
+            }
+            others.put(key, value);
+        }
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final VendorExtensionFlag flag = VendorExtensionFlag.of(key);
+        final Object previous = get(key);
+        if (flag != null) {
+            unset(flag);
+        }
+        if (others != null) {
+            others.remove(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = 0L;
+        }
+        others = null;
+    }
+
+    @Override
+    public int size() {
+        int size = others == null ? 0 : others.size();
+        for (int i = 0; i < WORDS; i++) {
+            size += Long.bitCount(flags[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                final List<Map.Entry<String, Object>> entries = new ArrayList<>(size());
+                for (VendorExtensionFlag flag : FLAGS) {
+                    if (isSet(flag)) {
+                        entries.add(new WriteThroughEntry(flag.getExtensionName(), getValue(flag)));
+                    }
+                }
+                if (others != null) {
+                    for (Map.Entry<String, Object> entry : others.entrySet()) {
+                        entries.add(new WriteThroughEntry(entry.getKey(), entry.getValue()));
+                    }
+                }
+                final Iterator<Map.Entry<String, Object>> iterator = entries.iterator();
+                return new Iterator<Map.Entry<String, Object>>() {
+                    private Map.Entry<String, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        current = iterator.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        CompactVendorExtensions.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactVendorExtensions.this.size();
+            }
+        };
+    }
+
+    private boolean isSet(VendorExtensionFlag flag) {
+        return (flags[flag.ordinal() / Long.SIZE] & bit(flag)) != 0L;
+    }
+
+    private Boolean getValue(VendorExtensionFlag flag) {
+        return (flags[WORDS + flag.ordinal() / Long.SIZE] & bit(flag)) != 0L ? Boolean.TRUE : Boolean.FALSE;
+    }
+
+    private void set(VendorExtensionFlag flag, boolean value) {
+        final int word = flag.ordinal() / Long.SIZE;
+        flags[word] |= bit(flag);
+        if (value) {
+            flags[WORDS + word] |= bit(flag);
+        } else {
+            flags[WORDS + word] &= ~bit(flag);
+        }
+    }
+
+    private void unset(VendorExtensionFlag flag) {
+        final int word = flag.ordinal() / Long.SIZE;
+        flags[word] &= ~bit(flag);
+        flags[WORDS + word] &= ~bit(flag);
+    }
+
+    private static long bit(VendorExtensionFlag flag) {
+        return 1L << (flag.ordinal() % Long.SIZE);
+    }
+
+    /**
+     * Entry writing through to the vendor extensions.
+     */
+    private class WriteThroughEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+        WriteThroughEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+}
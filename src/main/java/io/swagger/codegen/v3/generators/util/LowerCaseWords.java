@@ -0,0 +1,152 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Unmodifiable set of lower case words, like the reserved words of a language, which can be shared by every
+ * generator of the language. Besides the lookup of a (lower case) word it looks words up ignoring case, the same as
+ * looking up their <code>toLowerCase(Locale.ROOT)</code> form. ASCII words are compared char by char without
+ * building their lower case form.
+ */
+public final class LowerCaseWords extends AbstractSet<String> {
+
+    private final String[] table;
+    private final int size;
+
+    private LowerCaseWords(Set<String> words) {
+        int capacity = 16;
+        while (capacity < words.size() * 2) {
+            capacity <<= 1;
+        }
+        this.table = new String[capacity];
+        this.size = words.size();
+        for (String word : words) {
+            int index = hash(word) & (capacity - 1);
+            while (table[index] != null) {
+                index = (index + 1) & (capacity - 1);
+            }
+            table[index] = word;
+        }
+    }
+
+    /**
+     * @return the given words in lower case
+     */
+    public static LowerCaseWords of(Collection<String> words) {
+        final Set<String> lowerCaseWords = new LinkedHashSet<>();
+        for (String word : words) {
+            lowerCaseWords.add(word.toLowerCase(Locale.ROOT));
+        }
+        return new LowerCaseWords(lowerCaseWords);
+    }
+
+    public static LowerCaseWords of(String... words) {
+        return of(Arrays.asList(words));
+    }
+
+    @Override
+    public boolean contains(Object word) {
+        return word instanceof String && indexOf((String) word, false) >= 0;
+    }
+
+    /**
+     * @return <code>true</code> if the lower case form of the word is one of these
+     */
+    public boolean containsIgnoreCase(String word) {
+        return word != null && indexOf(word, true) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int index = next(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < table.length;
+            }
+
+            @Override
+            public String next() {
+                if (index >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                final String word = table[index];
+                index = next(index + 1);
+                return word;
+            }
+
+            private int next(int from) {
+                int index = from;
+                while (index < table.length && table[index] == null) {
+                    index++;
+                }
+                return index;
+            }
+        };
+    }
+
+    private int indexOf(String word, boolean ignoreCase) {
+        if (ignoreCase && !isAscii(word)) {
+            // other case mappings may change the length (dotted capital I) or depend on the context (final sigma).
+            return indexOf(word.toLowerCase(Locale.ROOT), false);
+        }
+        int index = hash(word) & (table.length - 1);
+        while (table[index] != null) {
+            final String candidate = table[index];
+            if (ignoreCase ? equalsLowerCase(candidate, word) : candidate.equals(word)) {
+                return index;
+            }
+            index = (index + 1) & (table.length - 1);
+        }
+        return -1;
+    }
+
+    private static boolean equalsLowerCase(String lowerCaseWord, String word) {
+        if (lowerCaseWord.length() != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (lowerCaseWord.charAt(i) != toLowerCase(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hash of the word ignoring the case of its ASCII letters, the same for an ASCII word and its lower case form.
+     */
+    private static int hash(String word) {
+        int hash = 0;
+        for (int i = 0; i < word.length(); i++) {
+            hash = 31 * hash + toLowerCase(word.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isAscii(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
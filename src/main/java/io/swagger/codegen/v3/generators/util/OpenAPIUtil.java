@@ -17,7 +17,14 @@ public class OpenAPIUtil {
         if (allSchemas == null || allSchemas.isEmpty()) {
             return;
         }
-        final Schema schema = allSchemas.get(getSimpleRef(refSchema.get$ref()));
+        addPropertiesFromSchema(allSchemas.get(getSimpleRef(refSchema.get$ref())), codegenProperty);
+    }
+
+    public static void addPropertiesFromRef(RefIndex refIndex, Schema refSchema, CodegenProperty codegenProperty) {
+        addPropertiesFromSchema(refIndex.getSchema(refSchema.get$ref()), codegenProperty);
+    }
+
+    private static void addPropertiesFromSchema(Schema schema, CodegenProperty codegenProperty) {
         if (schema == null) {
             return;
         }
@@ -0,0 +1,160 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves <code>$ref</code>s of an OpenAPI instance to the components they point to. The reference of every
+ * component of the spec (<code>#/components/schemas/Pet</code> and so on) is resolved to its name and to the
+ * component itself once, when the index is built, so a lookup is a single map access. Generators build it once per
+ * spec (see <code>DefaultCodegenConfig.getRefIndex()</code>).
+ *
+ * References to components added after the index was built are looked up in the live components of the spec
+ * (components are not replaced or removed while generating). Other references are resolved by their last segment,
+ * like {@link OpenAPIUtil#getSimpleRef(String)}.
+ */
+public class RefIndex {
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+    private static final String SCHEMAS_PREFIX = COMPONENTS_PREFIX + "schemas/";
+
+    private final OpenAPI openAPI;
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    private final Map<String, Schema> schemas;
+    private final Map<String, Parameter> parameters;
+    private final Map<String, ApiResponse> responses;
+    private final Map<String, Header> headers;
+    private final Map<String, RequestBody> requestBodies;
+
+    public RefIndex(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+        final Components components = getComponents();
+        this.schemas = index("schemas", components == null ? null : components.getSchemas());
+        this.parameters = index("parameters", components == null ? null : components.getParameters());
+        this.responses = index("responses", components == null ? null : components.getResponses());
+        this.headers = index("headers", components == null ? null : components.getHeaders());
+        this.requestBodies = index("requestBodies", components == null ? null : components.getRequestBodies());
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    /**
+     * @return the component name of the reference, the reference itself if it doesn't point to the components
+     */
+    public String getName(String ref) {
+        if (!ref.startsWith(COMPONENTS_PREFIX)) {
+            return ref;
+        }
+        return names.computeIfAbsent(ref, key -> key.substring(key.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * @return the part of the reference after <code>#/components/schemas/</code>, the reference itself if it doesn't
+     * point to the schemas
+     */
+    public String getSchemaName(String ref) {
+        if (!ref.startsWith(SCHEMAS_PREFIX)) {
+            return ref;
+        }
+        final String name = names.get(ref);
+        if (name != null && ref.length() == SCHEMAS_PREFIX.length() + name.length()) {
+            return name;
+        }
+        return ref.substring(SCHEMAS_PREFIX.length());
+    }
+
+    public Schema getSchema(String ref) {
+        final Schema schema = schemas.get(ref);
+        if (schema != null) {
+            return schema;
+        }
+        final Components components = getComponents();
+        if (components == null || components.getSchemas() == null) {
+            return null;
+        }
+        return components.getSchemas().get(getName(ref));
+    }
+
+    public Parameter getParameter(String ref) {
+        final Parameter parameter = parameters.get(ref);
+        if (parameter != null) {
+            return parameter;
+        }
+        final Components components = getComponents();
+        if (components == null || components.getParameters() == null) {
+            return null;
+        }
+        final String name = ref.startsWith(COMPONENTS_PREFIX) ? getName(ref) : ref.substring(ref.lastIndexOf('/') + 1);
+        return components.getParameters().get(name);
+    }
+
+    public ApiResponse getResponse(String ref) {
+        final ApiResponse response = responses.get(ref);
+        if (response != null) {
+            return response;
+        }
+        final Components components = getComponents();
+        if (components == null || components.getResponses() == null) {
+            return null;
+        }
+        return components.getResponses().get(getName(ref));
+    }
+
+    public Header getHeader(String ref) {
+        final Header header = headers.get(ref);
+        if (header != null) {
+            return header;
+        }
+        final Components components = getComponents();
+        if (components == null || components.getHeaders() == null) {
+            return null;
+        }
+        return components.getHeaders().get(getName(ref));
+    }
+
+    public RequestBody getRequestBody(String ref) {
+        final RequestBody requestBody = requestBodies.get(ref);
+        if (requestBody != null) {
+            return requestBody;
+        }
+        final Components components = getComponents();
+        if (components == null || components.getRequestBodies() == null) {
+            return null;
+        }
+        return components.getRequestBodies().get(getName(ref));
+    }
+
+    /**
+     * @return the components of the type by their reference
+     */
+    private <T> Map<String, T> index(String type, Map<String, T> components) {
+        if (components == null || components.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, T> resolved = new HashMap<>();
+        for (Map.Entry<String, T> component : components.entrySet()) {
+            final String ref = COMPONENTS_PREFIX + type + '/' + component.getKey();
+            names.put(ref, component.getKey());
+            if (component.getValue() != null) {
+                resolved.put(ref, component.getValue());
+            }
+        }
+        return resolved;
+    }
+
+    private Components getComponents() {
+        return openAPI == null ? null : openAPI.getComponents();
+    }
+}
@@ -0,0 +1,214 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled table of name sanitization rules. All replacements are applied in a single left to right
+ * pass: at every position the longest matching token wins, then the single character rules, and any
+ * character without a rule is kept or dropped according to the configured {@link NonWordCharacters}
+ * handling. Replacement text is emitted as is and never rescanned, which gives the same result as the
+ * chain of {@code replaceAll} calls the rules replace as long as no replacement introduces text that a
+ * later rule of that chain would have matched.
+ * <p>
+ * Tables are immutable once built and cache their results, so they can be shared between threads.
+ */
+public class SanitizationRules {
+
+    /**
+     * What to do with the characters that no rule matched.
+     */
+    public enum NonWordCharacters {
+        /** keep every character. */
+        KEEP,
+        /** drop everything matched by the regex {@code \W}. */
+        REMOVE,
+        /** drop everything matched by the regex {@code \W} with {@code Pattern.UNICODE_CHARACTER_CLASS}. */
+        REMOVE_UNICODE
+    }
+
+    private static final int ASCII_LIMIT = 128;
+    private static final int CACHE_SIZE = 10000;
+
+    private final String[] asciiReplacements = new String[ASCII_LIMIT];
+    private final Map<Integer, String> replacements = new HashMap<>();
+    private final String[] tokens;
+    private final String[] tokenReplacements;
+    private final boolean[] asciiTokenStarts = new boolean[ASCII_LIMIT];
+    private final NonWordCharacters nonWordCharacters;
+    private final BoundedCache<String, String> cache = new BoundedCache<>(CACHE_SIZE);
+
+    private SanitizationRules(Builder builder) {
+        final List<Map.Entry<String, String>> tokenRules = new ArrayList<>();
+        for (Map.Entry<String, String> rule : builder.rules.entrySet()) {
+            final String target = rule.getKey();
+            final int codePoint = target.codePointAt(0);
+            if (Character.charCount(codePoint) == target.length()) {
+                if (codePoint < ASCII_LIMIT) {
+                    asciiReplacements[codePoint] = rule.getValue();
+                } else {
+                    replacements.put(codePoint, rule.getValue());
+                }
+            } else {
+                tokenRules.add(rule);
+                if (codePoint < ASCII_LIMIT) {
+                    asciiTokenStarts[codePoint] = true;
+                }
+            }
+        }
+        tokenRules.sort(Comparator.comparingInt((Map.Entry<String, String> rule) -> rule.getKey().length()).reversed());
+        this.tokens = new String[tokenRules.size()];
+        this.tokenReplacements = new String[tokenRules.size()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokenRules.get(i).getKey();
+            tokenReplacements[i] = tokenRules.get(i).getValue();
+        }
+        this.nonWordCharacters = builder.nonWordCharacters;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public NonWordCharacters getNonWordCharacters() {
+        return nonWordCharacters;
+    }
+
+    /**
+     * Applies the rules to the given name.
+     *
+     * @param name the name to sanitize, not null
+     * @return the sanitized name, the same instance when no rule applied
+     */
+    public String sanitize(String name) {
+        String sanitized = cache.get(name);
+        if (sanitized == null) {
+            sanitized = apply(name);
+            cache.put(name, sanitized);
+        }
+        return sanitized;
+    }
+
+    private String apply(String name) {
+        final int length = name.length();
+        StringBuilder builder = null;
+        int i = 0;
+        while (i < length) {
+            final int codePoint = name.codePointAt(i);
+            final int charCount = Character.charCount(codePoint);
+            String replacement = null;
+            int consumed = charCount;
+            final int token = tokens.length == 0 ? -1 : findToken(name, i, codePoint);
+            if (token >= 0) {
+                replacement = tokenReplacements[token];
+                consumed = tokens[token].length();
+            } else if (codePoint < ASCII_LIMIT) {
+                replacement = asciiReplacements[codePoint];
+            } else if (!replacements.isEmpty()) {
+                replacement = replacements.get(codePoint);
+            }
+            if (replacement == null && isRemoved(codePoint)) {
+                replacement = "";
+            }
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(length + 8).append(name, 0, i);
+                }
+                builder.append(replacement);
+            } else if (builder != null) {
+                builder.append(name, i, i + charCount);
+            }
+            i += consumed;
+        }
+        return builder == null ? name : builder.toString();
+    }
+
+    private int findToken(String name, int offset, int codePoint) {
+        if (codePoint < ASCII_LIMIT && !asciiTokenStarts[codePoint]) {
+            return -1;
+        }
+        for (int i = 0; i < tokens.length; i++) {
+            if (name.startsWith(tokens[i], offset)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isRemoved(int codePoint) {
+        switch (nonWordCharacters) {
+            case REMOVE:
+                return !isWordCharacter(codePoint);
+            case REMOVE_UNICODE:
+                return !isUnicodeWordCharacter(codePoint);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Same as the regex class {@code \w}.
+     */
+    public static boolean isWordCharacter(int codePoint) {
+        return (codePoint >= 'a' && codePoint <= 'z') || (codePoint >= 'A' && codePoint <= 'Z')
+                || (codePoint >= '0' && codePoint <= '9') || codePoint == '_';
+    }
+
+    /**
+     * Same as the regex class {@code \w} with {@code Pattern.UNICODE_CHARACTER_CLASS}:
+     * alphabetic, marks, decimal digits, connector punctuation and the join controls.
+     */
+    public static boolean isUnicodeWordCharacter(int codePoint) {
+        if (codePoint < ASCII_LIMIT) {
+            return isWordCharacter(codePoint);
+        }
+        if (Character.isAlphabetic(codePoint)) {
+            return true;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.DECIMAL_DIGIT_NUMBER:
+            case Character.CONNECTOR_PUNCTUATION:
+                return true;
+            default:
+                return codePoint == 0x200C || codePoint == 0x200D;
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<String, String> rules = new LinkedHashMap<>();
+        private NonWordCharacters nonWordCharacters = NonWordCharacters.KEEP;
+
+        /**
+         * Replaces every occurrence of {@code target} (a single character or a longer token) with
+         * {@code replacement}. A later rule for the same target overrides the earlier one.
+         */
+        public Builder replace(String target, String replacement) {
+            if (target == null || target.isEmpty()) {
+                throw new IllegalArgumentException("target must not be empty");
+            }
+            rules.put(target, replacement == null ? "" : replacement);
+            return this;
+        }
+
+        public Builder remove(String target) {
+            return replace(target, "");
+        }
+
+        public Builder nonWordCharacters(NonWordCharacters nonWordCharacters) {
+            this.nonWordCharacters = nonWordCharacters;
+            return this;
+        }
+
+        public SanitizationRules build() {
+            return new SanitizationRules(this);
+        }
+    }
+}
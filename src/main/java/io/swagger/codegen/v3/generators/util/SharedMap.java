@@ -0,0 +1,121 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map of a generator backed by an unmodifiable table shared by every generator of the language (see
+ * <code>DefaultCodegenConfig.shareTypeMapping()</code>), until it is changed: the table is copied then, so the changes
+ * don't show up in the other generators.
+ */
+public class SharedMap<K, V> extends AbstractMap<K, V> {
+
+    private Map<K, V> shared;
+    private Map<K, V> own;
+
+    public SharedMap(Map<K, V> shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * @return a map with the same entries as this one, sharing the table if it is not changed yet
+     */
+    public SharedMap<K, V> copy() {
+        final SharedMap<K, V> copy = new SharedMap<>(shared);
+        if (own != null) {
+            copy.own = new HashMap<>(own);
+        }
+        return copy;
+    }
+
+    @Override
+    public V get(Object key) {
+        return current().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return current().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return own().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return containsKey(key) ? own().remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        own = new HashMap<>();
+        shared = null;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (own != null) {
+            return own.entrySet();
+        }
+        final Map<K, V> entries = shared;
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public int size() {
+                return entries.size();
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                final Iterator<Entry<K, V>> iterator = entries.entrySet().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private Entry<K, V> last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        last = iterator.next();
+                        return new SimpleEntry<K, V>(last) {
+                            @Override
+                            public V setValue(V value) {
+                                SharedMap.this.put(getKey(), value);
+                                return super.setValue(value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        SharedMap.this.remove(last.getKey());
+                    }
+                };
+            }
+        };
+    }
+
+    private Map<K, V> current() {
+        return own != null ? own : shared;
+    }
+
+    private Map<K, V> own() {
+        if (own == null) {
+            own = new HashMap<>(shared);
+            shared = null;
+        }
+        return own;
+    }
+}
@@ -0,0 +1,104 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set of a generator backed by an unmodifiable table shared by every generator of the language (see
+ * <code>DefaultCodegenConfig.shareReservedWords()</code>), until it is changed: the table is copied then, so the changes
+ * don't show up in the other generators.
+ */
+public class SharedSet<E> extends AbstractSet<E> {
+
+    private Set<E> shared;
+    private Set<E> own;
+
+    public SharedSet(Set<E> shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * @return a set with the same elements as this one, sharing the table if it is not changed yet
+     */
+    public SharedSet<E> copy() {
+        final SharedSet<E> copy = new SharedSet<>(shared);
+        if (own != null) {
+            copy.own = new HashSet<>(own);
+        }
+        return copy;
+    }
+
+    /**
+     * @return the shared table if it is not changed yet, <code>null</code> otherwise
+     */
+    public Set<E> getShared() {
+        return shared;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return current().contains(element);
+    }
+
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public boolean add(E element) {
+        return own().add(element);
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return contains(element) && own().remove(element);
+    }
+
+    @Override
+    public void clear() {
+        own = new HashSet<>();
+        shared = null;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        if (own != null) {
+            return own.iterator();
+        }
+        final Iterator<E> iterator = shared.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                own().remove(last);
+            }
+        };
+    }
+
+    private Set<E> current() {
+        return own != null ? own : shared;
+    }
+
+    private Set<E> own() {
+        if (own == null) {
+            own = new HashSet<>(shared);
+            shared = null;
+        }
+        return own;
+    }
+}
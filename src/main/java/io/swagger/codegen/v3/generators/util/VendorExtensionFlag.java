@@ -0,0 +1,118 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The boolean <code>x-is-*</code> and <code>x-has-*</code> vendor extensions set by the generators, stored as bits by
+ * {@link CompactVendorExtensions}.
+ */
+public enum VendorExtensionFlag {
+
+    IS_ALIAS(CodegenConstants.IS_ALIAS_EXT_NAME),
+    IS_API_KEY(CodegenConstants.IS_API_KEY_EXT_NAME),
+    IS_APPLICATION(CodegenConstants.IS_APPLICATION_EXT_NAME),
+    IS_ARRAY_MODEL(CodegenConstants.IS_ARRAY_MODEL_EXT_NAME),
+    IS_BASIC(CodegenConstants.IS_BASIC_EXT_NAME),
+    IS_BEARER(CodegenConstants.IS_BEARER_EXT_NAME),
+    IS_BINARY(CodegenConstants.IS_BINARY_EXT_NAME),
+    IS_BODY_PARAM(CodegenConstants.IS_BODY_PARAM_EXT_NAME),
+    IS_BOOLEAN(CodegenConstants.IS_BOOLEAN_EXT_NAME),
+    IS_BYTE_ARRAY(CodegenConstants.IS_BYTE_ARRAY_EXT_NAME),
+    IS_CODE(CodegenConstants.IS_CODE_EXT_NAME),
+    IS_COLLECTION_FORMAT_MULTI(CodegenConstants.IS_COLLECTION_FORMAT_MULTI_EXT_NAME),
+    IS_CONTAINER(CodegenConstants.IS_CONTAINER_EXT_NAME),
+    IS_COOKIE_PARAM(CodegenConstants.IS_COOKIE_PARAM_EXT_NAME),
+    IS_DATE(CodegenConstants.IS_DATE_EXT_NAME),
+    IS_DATE_TIME(CodegenConstants.IS_DATE_TIME_EXT_NAME),
+    IS_DEFAULT(CodegenConstants.IS_DEFAULT_EXT_NAME),
+    IS_DELETE_METHOD(CodegenConstants.IS_DELETE_METHOD_EXT_NAME),
+    IS_DEPRECATED(CodegenConstants.IS_DEPRECATED_EXT_NAME),
+    IS_DOUBLE(CodegenConstants.IS_DOUBLE_EXT_NAME),
+    IS_ENUM(CodegenConstants.IS_ENUM_EXT_NAME),
+    IS_FILE(CodegenConstants.IS_FILE_EXT_NAME),
+    IS_FLOAT(CodegenConstants.IS_FLOAT_EXT_NAME),
+    IS_FORM(CodegenConstants.IS_FORM_EXT_NAME),
+    IS_FORM_PARAM(CodegenConstants.IS_FORM_PARAM_EXT_NAME),
+    IS_GET_METHOD(CodegenConstants.IS_GET_METHOD_EXT_NAME),
+    IS_HEADER_PARAM(CodegenConstants.IS_HEADER_PARAM_EXT_NAME),
+    IS_HEAD_METHOD(CodegenConstants.IS_HEAD_METHOD_EXT_NAME),
+    IS_IMPLICIT(CodegenConstants.IS_IMPLICIT_EXT_NAME),
+    IS_INHERITED(CodegenConstants.IS_INHERITED_EXT_NAME),
+    IS_INTEGER(CodegenConstants.IS_INTEGER_EXT_NAME),
+    IS_KEY_IN_HEADER(CodegenConstants.IS_KEY_IN_HEADER_EXT_NAME),
+    IS_KEY_IN_QUERY(CodegenConstants.IS_KEY_IN_QUERY_EXT_NAME),
+    IS_LIST_CONTAINER(CodegenConstants.IS_LIST_CONTAINER_EXT_NAME),
+    IS_LONG(CodegenConstants.IS_LONG_EXT_NAME),
+    IS_MAP_CONTAINER(CodegenConstants.IS_MAP_CONTAINER_EXT_NAME),
+    IS_MULTIPART(CodegenConstants.IS_MULTIPART_EXT_NAME),
+    IS_NOT_CONTAINER(CodegenConstants.IS_NOT_CONTAINER_EXT_NAME),
+    IS_NUMBER(CodegenConstants.IS_NUMBER_EXT_NAME),
+    IS_NUMERIC(CodegenConstants.IS_NUMERIC_EXT_NAME),
+    IS_OAUTH(CodegenConstants.IS_OAUTH_EXT_NAME),
+    IS_OPTIONS_METHOD(CodegenConstants.IS_OPTIONS_METHOD_EXT_NAME),
+    IS_PASSWORD(CodegenConstants.IS_PASSWORD_EXT_NAME),
+    IS_PATCH_METHOD(CodegenConstants.IS_PATCH_METHOD_EXT_NAME),
+    IS_PATH_PARAM(CodegenConstants.IS_PATH_PARAM_EXT_NAME),
+    IS_POST_METHOD(CodegenConstants.IS_POST_METHOD_EXT_NAME),
+    IS_PRIMITIVE_TYPE(CodegenConstants.IS_PRIMITIVE_TYPE_EXT_NAME),
+    IS_PUT_METHOD(CodegenConstants.IS_PUT_METHOD_EXT_NAME),
+    IS_QUERY_PARAM(CodegenConstants.IS_QUERY_PARAM_EXT_NAME),
+    IS_READ_ONLY(CodegenConstants.IS_READ_ONLY_EXT_NAME),
+    IS_RESPONSE_BINARY(CodegenConstants.IS_RESPONSE_BINARY_EXT_NAME),
+    IS_RESPONSE_FILE(CodegenConstants.IS_RESPONSE_FILE_EXT_NAME),
+    IS_RESTFUL_CREATE(CodegenConstants.IS_RESTFUL_CREATE_EXT_NAME),
+    IS_RESTFUL_DESTROY(CodegenConstants.IS_RESTFUL_DESTROY_EXT_NAME),
+    IS_RESTFUL(CodegenConstants.IS_RESTFUL_EXT_NAME),
+    IS_RESTFUL_INDEX(CodegenConstants.IS_RESTFUL_INDEX_EXT_NAME),
+    IS_RESTFUL_SHOW(CodegenConstants.IS_RESTFUL_SHOW_EXT_NAME),
+    IS_RESTFUL_UPDATE(CodegenConstants.IS_RESTFUL_UPDATE_EXT_NAME),
+    IS_SIMPLE_TYPE(CodegenConstants.IS_SIMPLE_TYPE_EXT_NAME),
+    IS_STRING(CodegenConstants.IS_STRING_EXT_NAME),
+    IS_TRACE_METHOD(CodegenConstants.IS_TRACE_METHOD_EXT_NAME),
+    IS_UUID(CodegenConstants.IS_UUID_EXT_NAME),
+    IS_XML_ATTRIBUTE(CodegenConstants.IS_XML_ATTRIBUTE_EXT_NAME),
+    IS_XML_WRAPPED(CodegenConstants.IS_XML_WRAPPED_EXT_NAME),
+    HAS_CONSUMES(CodegenConstants.HAS_CONSUMES_EXT_NAME),
+    HAS_ENUMS(CodegenConstants.HAS_ENUMS_EXT_NAME),
+    HAS_HEADERS(CodegenConstants.HAS_HEADERS_EXT_NAME),
+    HAS_MORE(CodegenConstants.HAS_MORE_EXT_NAME),
+    HAS_MORE_NON_READ_ONLY(CodegenConstants.HAS_MORE_NON_READ_ONLY_EXT_NAME),
+    HAS_ONLY_READ_ONLY(CodegenConstants.HAS_ONLY_READ_ONLY_EXT_NAME),
+    HAS_OPTIONAL(CodegenConstants.HAS_OPTIONAL_EXT_NAME),
+    HAS_OPTIONAL_PARAMS(CodegenConstants.HAS_OPTIONAL_PARAMS_EXT_NAME),
+    HAS_PARAMS(CodegenConstants.HAS_PARAMS_EXT_NAME),
+    HAS_PRODUCES(CodegenConstants.HAS_PRODUCES_EXT_NAME),
+    HAS_REFERENCE(CodegenConstants.HAS_REFERENCE_EXT_NAME),
+    HAS_REQUIRED(CodegenConstants.HAS_REQUIRED_EXT_NAME),
+    HAS_REQUIRED_PARAMS(CodegenConstants.HAS_REQUIRED_PARAMS_EXT_NAME),
+    HAS_VALIDATION(CodegenConstants.HAS_VALIDATION_EXT_NAME),
+    HAS_VARS(CodegenConstants.HAS_VARS_EXT_NAME);
+
+    private static final Map<String, VendorExtensionFlag> BY_EXTENSION_NAME = new HashMap<>();
+
+    static {
+        for (VendorExtensionFlag flag : values()) {
+            BY_EXTENSION_NAME.put(flag.extensionName, flag);
+        }
+    }
+
+    private final String extensionName;
+
+    VendorExtensionFlag(String extensionName) {
+        this.extensionName = extensionName;
+    }
+
+    public String getExtensionName() {
+        return extensionName;
+    }
+
+    /**
+     * @return the flag of the vendor extension, <code>null</code> if it's not a known flag
+     */
+    public static VendorExtensionFlag of(Object extensionName) {
+        return extensionName instanceof String ? BY_EXTENSION_NAME.get(extensionName) : null;
+    }
+}
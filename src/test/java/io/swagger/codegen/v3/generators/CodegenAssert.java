@@ -0,0 +1,66 @@
+package io.swagger.codegen.v3.generators;
+
+import org.testng.Assert;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares what two conversions produced field by field (codegen objects, maps and lists are walked, everything else
+ * has to be equal), reporting the path of the first difference.
+ */
+public final class CodegenAssert {
+
+    private CodegenAssert() {
+    }
+
+    public static void assertSameConversion(Object actual, Object expected) {
+        assertSameConversion(actual, expected, expected == null ? "" : expected.getClass().getSimpleName(), new IdentityHashMap<>());
+    }
+
+    private static void assertSameConversion(Object actual, Object expected, String path, Map<Object, Object> compared) {
+        if (actual == null || expected == null) {
+            Assert.assertEquals(actual, expected, path);
+            return;
+        }
+        Assert.assertEquals(actual.getClass(), expected.getClass(), path);
+        if (expected instanceof Map) {
+            final Map<?, ?> actualMap = (Map<?, ?>) actual;
+            final Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Assert.assertEquals(actualMap.keySet(), expectedMap.keySet(), path);
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertSameConversion(actualMap.get(entry.getKey()), entry.getValue(), path + "[" + entry.getKey() + "]", compared);
+            }
+        } else if (expected instanceof List) {
+            final List<?> actualList = (List<?>) actual;
+            final List<?> expectedList = (List<?>) expected;
+            Assert.assertEquals(actualList.size(), expectedList.size(), path);
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertSameConversion(actualList.get(i), expectedList.get(i), path + "[" + i + "]", compared);
+            }
+        } else if (expected.getClass().getName().startsWith("io.swagger.codegen.")) {
+            // objects shared by the conversion (or referring back to each other) are compared once.
+            if (compared.put(expected, actual) != null) {
+                return;
+            }
+            for (Class<?> type = expected.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    try {
+                        assertSameConversion(field.get(actual), field.get(expected), path + "." + field.getName(), compared);
+                    } catch (IllegalAccessException e) {
+                        throw new AssertionError(path + "." + field.getName(), e);
+                    }
+                }
+            }
+        } else {
+            Assert.assertEquals(actual, expected, path);
+        }
+    }
+}
@@ -1,36 +1,60 @@
 package io.swagger.codegen.v3.generators;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
+import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.util.RefIndex;
+import io.swagger.codegen.v3.generators.util.SharedSet;
+import io.swagger.codegen.v3.templates.TemplateEngine;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DefaultCodegenConfigTest {
 
@@ -49,6 +73,43 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.HIDE_GENERATION_TIMESTAMP), Boolean.TRUE);
     }
 
+    @Test
+    public void testDefaultMappingsAreCopiedPerInstance() {
+        final DefaultCodegenConfig first = new P_DefaultCodegenConfig();
+        first.typeMapping().put("string", "CharSequence");
+        first.importMapping().remove("UUID");
+        first.defaultIncludes().add("Object");
+
+        final DefaultCodegenConfig second = new P_DefaultCodegenConfig();
+        Assert.assertEquals(second.typeMapping().get("string"), "String");
+        Assert.assertEquals(second.importMapping().get("UUID"), "java.util.UUID");
+        Assert.assertFalse(second.defaultIncludes().contains("Object"));
+        Assert.assertEquals(second.getSymbolName("$"), "Dollar");
+    }
+
+    @Test
+    public void testLanguageTablesAreSharedUntilChanged() {
+        final JavaClientCodegen first = new JavaClientCodegen();
+        final JavaClientCodegen second = new JavaClientCodegen();
+        Assert.assertSame(((SharedSet<String>) first.reservedWords()).getShared(), ((SharedSet<String>) second.reservedWords()).getShared());
+        Assert.assertTrue(first.isReservedWord("ApiClient"));
+        Assert.assertTrue(first.isReservedWord("CLASS"));
+        Assert.assertFalse(first.isReservedWord("Pet"));
+
+        first.reservedWords().add("pet");
+        first.typeMapping().put("date", "LocalDate");
+        first.languageSpecificPrimitives().remove("Object");
+        Assert.assertTrue(first.isReservedWord("Pet"));
+        Assert.assertFalse(second.isReservedWord("Pet"));
+        Assert.assertEquals(second.typeMapping().get("date"), "Date");
+        Assert.assertTrue(second.languageSpecificPrimitives().contains("Object"));
+        // copies share the tables too.
+        final DefaultCodegenConfig copy = second.copy();
+        Assert.assertSame(((SharedSet<String>) copy.reservedWords()).getShared(), ((SharedSet<String>) second.reservedWords()).getShared());
+        copy.instantiationTypes().put("set", "HashSet");
+        Assert.assertFalse(second.instantiationTypes().containsKey("set"));
+    }
+
     @Test
     public void testSetters() throws Exception {
         final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
@@ -132,6 +193,36 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(true, codegenOperation.bodyParams.get(0).getVendorExtensions().get("x-has-more"));
     }
 
+    @Test
+    public void testFromOperationSharesParameterVendorExtensions() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final Operation operation = new Operation()
+                .addParametersItem(new Parameter().in("query").name("first").required(true).schema(new StringSchema()))
+                .addParametersItem(new Parameter().in("query").name("second").required(true).schema(new StringSchema()));
+        final OpenAPI openAPI = new OpenAPI().path("/path", new PathItem().get(operation));
+        final CodegenOperation codegenOperation = codegen.fromOperation("/path", "GET", operation, null, openAPI);
+
+        final CodegenParameter all = codegenOperation.allParams.get(0);
+        final CodegenParameter query = codegenOperation.queryParams.get(0);
+        final CodegenParameter required = codegenOperation.requiredParams.get(0);
+        Assert.assertTrue(query.getVendorExtensions() instanceof SharedVendorExtensions);
+        // the copied parameter keeps its vendor extensions.
+        Assert.assertTrue(all.getVendorExtensions() instanceof SharedVendorExtensions);
+        Assert.assertEquals(query.getVendorExtensions().get(CodegenConstants.IS_QUERY_PARAM_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(required.getVendorExtensions().get(CodegenConstants.IS_QUERY_PARAM_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(all.getVendorExtensions().get(CodegenConstants.HAS_MORE_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(codegenOperation.allParams.get(1).getVendorExtensions().get(CodegenConstants.HAS_MORE_EXT_NAME), Boolean.FALSE);
+        Assert.assertTrue(codegenOperation.queryParams.get(1).secondaryParam);
+
+        query.getVendorExtensions().put("x-custom", "query");
+        required.getVendorExtensions().remove(CodegenConstants.IS_QUERY_PARAM_EXT_NAME);
+        Assert.assertEquals(query.getVendorExtensions().get("x-custom"), "query");
+        Assert.assertFalse(all.getVendorExtensions().containsKey("x-custom"));
+        Assert.assertFalse(required.getVendorExtensions().containsKey(CodegenConstants.IS_QUERY_PARAM_EXT_NAME));
+        Assert.assertEquals(all.getVendorExtensions().get(CodegenConstants.IS_QUERY_PARAM_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(new HashMap<>(query.getVendorExtensions()).size(), query.getVendorExtensions().size());
+    }
+
     @Test(dataProvider = "testGetCollectionFormatProvider")
     public void testGetCollectionFormat(Parameter.StyleEnum style, Boolean explode, String expectedCollectionFormat) {
         final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
@@ -310,6 +401,595 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(headerProperty.example, referencedHeader.getSchema().getExample());
     }
 
+    @Test
+    public void testSkipJsonSchema() {
+        final Schema schema = new Schema().type("object").addProperties("id", new IntegerSchema());
+
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        CodegenModel codegenModel = codegen.fromModel("Sample", schema);
+        Assert.assertNotNull(codegenModel.modelJson);
+        Assert.assertNotNull(codegenModel.vars.get(0).jsonSchema);
+
+        final DefaultCodegenConfig skippingCodegen = new P_DefaultCodegenConfig();
+        skippingCodegen.additionalProperties().put(DefaultCodegenConfig.SKIP_JSON_SCHEMA, "true");
+        skippingCodegen.processOpts();
+        codegenModel = skippingCodegen.fromModel("Sample", schema);
+        Assert.assertNull(codegenModel.modelJson);
+        Assert.assertNull(codegenModel.vars.get(0).jsonSchema);
+    }
+
+    @Test
+    public void testParallelModelConversion() {
+        final DefaultCodegenConfig sequential = new P_DefaultCodegenConfig();
+        sequential.processOpts();
+        final DefaultCodegenConfig parallel = new P_ParallelCodegenConfig();
+        parallel.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "4");
+        parallel.processOpts();
+        Assert.assertEquals(parallel.getConversionParallelism(), 4);
+        // generators have to opt in.
+        final DefaultCodegenConfig unsupported = new P_DefaultCodegenConfig();
+        unsupported.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "4");
+        unsupported.processOpts();
+        Assert.assertEquals(unsupported.getConversionParallelism(), 1);
+
+        // each run gets its own spec, the conversion writes into it.
+        final Map<String, Schema> sequentialSchemas = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml").getComponents().getSchemas();
+        final Map<String, Schema> schemas = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml").getComponents().getSchemas();
+        for (Map.Entry<String, Schema> entry : sequentialSchemas.entrySet()) {
+            final CodegenModel expected = sequential.fromModel(entry.getKey(), entry.getValue(), sequentialSchemas);
+            final CodegenModel actual = parallel.fromModel(entry.getKey(), schemas.get(entry.getKey()), schemas);
+            CodegenAssert.assertSameConversion(actual, expected);
+        }
+        // every prefetched model is handed out once, a second round converts again.
+        final String name = schemas.keySet().iterator().next();
+        Assert.assertNotSame(parallel.fromModel(name, schemas.get(name), schemas), parallel.fromModel(name, schemas.get(name), schemas));
+    }
+
+    @Test
+    public void testParallelModelConversionFailure() {
+        final DefaultCodegenConfig parallel = new P_ParallelCodegenConfig() {
+            @Override
+            public String toModelName(String name) {
+                if ("Tag".equals(name)) {
+                    throw new IllegalStateException("no model name for Tag");
+                }
+                return super.toModelName(name);
+            }
+        };
+        parallel.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "4");
+        parallel.processOpts();
+        final Map<String, Schema> schemas = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml").getComponents().getSchemas();
+
+        Assert.assertEquals(parallel.fromModel("Category", schemas.get("Category"), schemas).classname, "Category");
+        // the failure of a model is thrown by the call for that model, as the sequential conversion does.
+        try {
+            parallel.fromModel("Tag", schemas.get("Tag"), schemas);
+            Assert.fail("the conversion of Tag should fail");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "no model name for Tag");
+        }
+    }
+
+    @DataProvider(name = "testSanitizeNameProvider")
+    public Object[][] provideData_testSanitizeName() {
+        return new Object[][] {
+            { null,                     false,  "Object" },
+            { "$",                      false,  "value" },
+            { "input[]",                false,  "input" },
+            { "input[a][b]",            false,  "input_a_b" },
+            { "input[[]]",              false,  "input_" },
+            { "input(a)(b)",            false,  "input_a_b" },
+            { "input.name-and age",     false,  "input_name_and_age" },
+            { "$php_variable",          false,  "php_variable" },
+            { "plain_name",             false,  "plain_name" },
+            { "caf\u00e9 \u00e0 la-carte", false, "caf__la_carte" },
+            { "caf\u00e9 \u00e0 la-carte", true,  "caf\u00e9_\u00e0_la_carte" },
+            { "emoji\ud83d\ude00name", true,  "emojiname" },
+        };
+    }
+
+    @Test(dataProvider = "testSanitizeNameProvider")
+    public void testSanitizeName(String name, boolean allowUnicodeIdentifiers, String expected) {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.setAllowUnicodeIdentifiers(allowUnicodeIdentifiers);
+        // second call is served from the rule table cache
+        Assert.assertEquals(codegen.sanitizeName(name), expected);
+        Assert.assertEquals(codegen.sanitizeName(name), expected);
+    }
+
+    @Test(description = "camelize, underscore and dashize produce the output recorded from the regex based implementation")
+    public void testNamingGoldenCorpus() throws Exception {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final JsonNode corpus;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("naming/naming-golden.json")) {
+            corpus = Json.mapper().readTree(inputStream);
+        }
+        Assert.assertTrue(corpus.size() > 1000);
+        // run twice, the second round is served from the camelize cache.
+        for (int round = 0; round < 2; round++) {
+            for (JsonNode entry : corpus) {
+                final String word = entry.get("word").asText();
+                Assert.assertEquals(DefaultCodegenConfig.camelize(word), entry.get("camelize").asText(), word);
+                Assert.assertEquals(DefaultCodegenConfig.camelize(word, true), entry.get("camelizeLowerFirst").asText(), word);
+                Assert.assertEquals(DefaultCodegenConfig.underscore(word), entry.get("underscore").asText(), word);
+                Assert.assertEquals(codegen.dashize(word), entry.get("dashize").asText(), word);
+            }
+        }
+    }
+
+    @Test
+    public void testAddOperationToGroupUniqueOperationIds() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final Map<String, List<CodegenOperation>> operations = new HashMap<>();
+        final String[] operationIds = {"getPet", "getPet", "getPet_0", "getPet", "findPets", "getPet_1", "getPet"};
+        final String[] expected = {"getPet", "getPet_0", "getPet_0_0", "getPet_1", "findPets", "getPet_1_0", "getPet_2"};
+        for (int i = 0; i < operationIds.length; i++) {
+            final CodegenOperation codegenOperation = new CodegenOperation();
+            codegenOperation.operationId = operationIds[i];
+            codegen.addOperationToGroup("pet", "/pet", new Operation(), codegenOperation, operations);
+            Assert.assertEquals(codegenOperation.operationId, expected[i]);
+            Assert.assertEquals(codegenOperation.operationIdLowerCase, expected[i].toLowerCase());
+            Assert.assertEquals(codegenOperation.baseName, "pet");
+        }
+        // other tags and other runs are indexed separately.
+        final CodegenOperation other = new CodegenOperation();
+        other.operationId = "getPet";
+        codegen.addOperationToGroup("store", "/store", new Operation(), other, operations);
+        Assert.assertEquals(other.operationId, "getPet");
+        final CodegenOperation nextRun = new CodegenOperation();
+        nextRun.operationId = "getPet";
+        codegen.addOperationToGroup("pet", "/pet", new Operation(), nextRun, new HashMap<>());
+        Assert.assertEquals(nextRun.operationId, "getPet");
+    }
+
+    @Test
+    public void testParallelOperationConversion() {
+        final List<CodegenOperation> expected = convertOperations(new P_DefaultCodegenConfig(), 1);
+        final List<CodegenOperation> actual = convertOperations(new P_ParallelCodegenConfig(), 4);
+        // the whole conversion, with the examples reusing those built by the previous operations as in sequence.
+        CodegenAssert.assertSameConversion(actual, expected);
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        final File outputFolder = Files.createTempDirectory("incremental").toFile();
+        try {
+            Assert.assertEquals(generateModels(outputFolder, null), new HashSet<>(Arrays.asList("Order", "Category", "User", "Tag", "Pet", "ApiResponse", "Test")));
+            Assert.assertTrue(new File(outputFolder, IncrementalGeneration.MANIFEST_FILE).exists());
+            Assert.assertEquals(generateModels(outputFolder, null), new HashSet<>());
+            // Pet references Category, both are rendered again.
+            Assert.assertEquals(generateModels(outputFolder, "Category"), new HashSet<>(Arrays.asList("Category", "Pet")));
+            // Category and Tag are referenced by Pet, which may change them through the cross model post-processing.
+            Assert.assertEquals(generateModels(outputFolder, "Pet"), new HashSet<>(Arrays.asList("Pet", "Category", "Tag")));
+            Assert.assertTrue(new File(outputFolder, "Tag.java").delete());
+            Assert.assertEquals(generateModels(outputFolder, null), new HashSet<>(Arrays.asList("Tag")));
+            // without processOpenAPI the manifest is not saved, the journal still records the rendered files.
+            Assert.assertEquals(generateModels(outputFolder, "Order", false), new HashSet<>(Arrays.asList("Order")));
+            Assert.assertTrue(new File(outputFolder, IncrementalGeneration.JOURNAL_FILE).exists());
+            Assert.assertEquals(generateModels(outputFolder, "Order"), new HashSet<>());
+            Assert.assertFalse(new File(outputFolder, IncrementalGeneration.JOURNAL_FILE).exists());
+        } finally {
+            FileUtils.deleteDirectory(outputFolder);
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationFollowsReferenceChains() throws Exception {
+        final File outputFolder = Files.createTempDirectory("incremental").toFile();
+        try {
+            Assert.assertEquals(generateModels(outputFolder, null, true, true, null).size(), 7);
+            // Order references Category through Pet.
+            Assert.assertEquals(generateModels(outputFolder, "Category", true, true, null), new HashSet<>(Arrays.asList("Category", "Pet", "Order")));
+            Assert.assertEquals(generateModels(outputFolder, "Order", true, true, null), new HashSet<>(Arrays.asList("Order", "Pet", "Category", "Tag")));
+        } finally {
+            FileUtils.deleteDirectory(outputFolder);
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationRecordsWrittenFilesOnly() throws Exception {
+        final File outputFolder = Files.createTempDirectory("incremental").toFile();
+        try {
+            Assert.assertEquals(generateModels(outputFolder, null).size(), 7);
+            // Category is not written, its previous content is stale.
+            Assert.assertEquals(generateModels(outputFolder, "Category", true, false, "Category"), new HashSet<>(Arrays.asList("Pet")));
+            Assert.assertEquals(generateModels(outputFolder, "Category"), new HashSet<>(Arrays.asList("Category")));
+            // same without the manifest, from the journal only.
+            Assert.assertEquals(generateModels(outputFolder, "Tag", false, false, "Tag"), new HashSet<>(Arrays.asList("Pet")));
+            Assert.assertEquals(generateModels(outputFolder, "Tag"), new HashSet<>(Arrays.asList("Tag")));
+        } finally {
+            FileUtils.deleteDirectory(outputFolder);
+        }
+    }
+
+    @Test
+    public void testPostProcessAllModelsLinksInterfaceModels() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final CodegenModel cat = codegenModel("Cat");
+        final CodegenModel dog = codegenModel("Dog");
+        final CodegenModel pet = codegenModel("Pet");
+        pet.vendorExtensions.put("x-is-composed-model", Boolean.TRUE);
+        pet.vendorExtensions.put("x-model-names", Arrays.asList("Cat", "Dog", "Cat", "Unknown"));
+        final CodegenModel existing = codegenModel("PET");
+        dog.interfaceModels = new ArrayList<>(Arrays.asList(existing));
+
+        final Map<String, Object> processedModels = new HashMap<>();
+        for (CodegenModel codegenModel : Arrays.asList(cat, dog, pet)) {
+            final Map<String, Object> model = new HashMap<>();
+            model.put("model", codegenModel);
+            final Map<String, Object> inner = new HashMap<>();
+            inner.put("models", Arrays.asList(model));
+            processedModels.put(codegenModel.name, inner);
+        }
+        codegen.postProcessAllModels(processedModels);
+
+        Assert.assertEquals(cat.interfaceModels.size(), 1);
+        Assert.assertSame(cat.interfaceModels.get(0), pet);
+        // an interface of the same name (ignoring case) is already there.
+        Assert.assertEquals(dog.interfaceModels.size(), 1);
+        Assert.assertSame(dog.interfaceModels.get(0), existing);
+        Assert.assertNull(pet.interfaceModels);
+    }
+
+    @Test
+    public void testPostProcessAllModelsLinksInheritance() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.supportsInheritance = true;
+        final CodegenModel animal = codegenModel("Animal");
+        animal.discriminator = new Discriminator().propertyName("type");
+        final CodegenModel pet = codegenModel("Pet");
+        pet.parent = "Animal";
+        final CodegenModel dog = codegenModel("Dog");
+        dog.parent = "Pet";
+        dog.interfaces = Arrays.asList("Named", "Unknown");
+        final CodegenModel named = codegenModel("Named");
+
+        final Map<String, Object> processedModels = new HashMap<>();
+        for (CodegenModel codegenModel : Arrays.asList(animal, pet, dog, named)) {
+            final Map<String, Object> model = new HashMap<>();
+            model.put("model", codegenModel);
+            final Map<String, Object> inner = new HashMap<>();
+            inner.put("models", Arrays.asList(model));
+            processedModels.put(codegenModel.name, inner);
+        }
+        codegen.postProcessAllModels(processedModels);
+
+        Assert.assertSame(dog.parentModel, pet);
+        Assert.assertSame(pet.parentModel, animal);
+        Assert.assertEquals(dog.interfaceModels, Arrays.asList(named));
+        // children up to the first ancestor with a discriminator.
+        Assert.assertEquals(pet.children, Arrays.asList(dog));
+        Assert.assertEquals(new HashSet<>(animal.children), new HashSet<>(Arrays.asList(pet, dog)));
+        Assert.assertNull(dog.children);
+    }
+
+    @Test
+    public void testAddPropertiesOfAllOfHierarchy() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        final Map<String, Schema> schemas = new HashMap<>();
+        schemas.put("Base", new ObjectSchema().addProperties("id", new IntegerSchema()).addRequiredItem("id"));
+        schemas.put("Named", new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Ignored"))
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Base"))
+                .addAllOfItem(new ObjectSchema().addProperties("name", new StringSchema())));
+        final ComposedSchema dog = new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Animal"))
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Named"))
+                .addAllOfItem(new ObjectSchema().addProperties("id", new StringSchema()).addProperties("bark", new BooleanSchema()));
+        schemas.put("Dog", dog);
+
+        for (int i = 0; i < 2; i++) {
+            final Map<String, Schema> properties = new LinkedHashMap<>();
+            final List<String> required = new ArrayList<>();
+            codegen.addProperties(properties, required, dog, schemas);
+            Assert.assertEquals(new ArrayList<>(properties.keySet()), Arrays.asList("id", "name", "bark"));
+            Assert.assertTrue(properties.get("id") instanceof StringSchema);
+            Assert.assertEquals(required, Arrays.asList("id"));
+        }
+
+        // the referenced schemas are looked up again once the map changed.
+        schemas.put("Base", new ObjectSchema().addProperties("code", new IntegerSchema()).addRequiredItem("code"));
+        final Map<String, Schema> properties = new LinkedHashMap<>();
+        final List<String> required = new ArrayList<>();
+        codegen.addProperties(properties, required, dog, schemas);
+        Assert.assertEquals(new ArrayList<>(properties.keySet()), Arrays.asList("code", "name", "id", "bark"));
+        Assert.assertEquals(required, Arrays.asList("code"));
+    }
+
+    @Test
+    public void testDiscriminatorIsConvertedOncePerModel() {
+        final Schema pet = new ObjectSchema().discriminator(new Discriminator().propertyName("petType"));
+        final Schema tag = new ObjectSchema();
+        final InheritanceGraph graph = new InheritanceGraph(new HashMap<>(), new RefIndex(null));
+        final AtomicInteger conversions = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(graph.getDiscriminator(pet, schema -> {
+                conversions.incrementAndGet();
+                return schema.getDiscriminator();
+            }).getPropertyName(), "petType");
+            Assert.assertNull(graph.getDiscriminator(tag, schema -> {
+                conversions.incrementAndGet();
+                return schema.getDiscriminator();
+            }));
+        }
+        Assert.assertEquals(conversions.get(), 2);
+    }
+
+    private static CodegenModel codegenModel(String name) {
+        final CodegenModel codegenModel = new CodegenModel();
+        codegenModel.name = name;
+        return codegenModel;
+    }
+
+    @Test
+    public void testGenerationProfile() throws Exception {
+        final File outputFolder = Files.createTempDirectory("profile").toFile();
+        try {
+            final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+            codegen.setOutputDir(outputFolder.getAbsolutePath());
+            codegen.additionalProperties().put(DefaultCodegenConfig.PROFILE_GENERATION, "json");
+            codegen.processOpts();
+            Assert.assertTrue(codegen.getTemplateEngine() instanceof ProfilingTemplateEngine);
+            final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+            final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+            codegen.preprocessOpenAPI(openAPI);
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                codegen.fromModel(entry.getKey(), entry.getValue(), schemas);
+            }
+            codegen.processOpenAPI(openAPI);
+
+            final JsonNode report = Json.mapper().readTree(new File(outputFolder, GenerationProfiler.REPORT_FILE + ".json"));
+            Assert.assertEquals(report.get("generator").asText(), P_DefaultCodegenConfig.class.getName());
+            final Map<String, JsonNode> phases = new HashMap<>();
+            for (JsonNode phase : report.get("phases")) {
+                phases.put(phase.get("phase").asText(), phase);
+            }
+            Assert.assertTrue(phases.get("fromModel").get("calls").asInt() >= schemas.size());
+            Assert.assertEquals(phases.get("preprocessOpenAPI").get("calls").asInt(), 1);
+            Assert.assertEquals(phases.get("fromOperation").get("calls").asInt(), 0);
+            Assert.assertEquals(phases.get("postProcessModels").get("implementedBy").asText(), DefaultCodegenConfig.class.getName());
+        } finally {
+            FileUtils.deleteDirectory(outputFolder);
+        }
+    }
+
+    @Test
+    public void testGenerationProfileTimesOverriddenConversionHooks() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setProfileGeneration("json");
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        codegen.preprocessOpenAPI(openAPI);
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        codegen.fromModel("Pet", schemas.get("Pet"), schemas);
+
+        final Map<String, GenerationProfiler.Phase> phases = new HashMap<>();
+        for (GenerationProfiler.Phase phase : codegen.getGenerationProfiler().getPhases()) {
+            phases.put(phase.getName(), phase);
+        }
+        // the hooks called while converting are timed at the call, whichever generator implements them.
+        Assert.assertTrue(phases.get("postProcessModelProperty").getCalls() > 0);
+        Assert.assertEquals(phases.get("postProcessModelProperty").getImplementedBy(), JavaClientCodegen.class.getName());
+        Assert.assertEquals(phases.get("postProcessParameter").getCalls(), 0L);
+    }
+
+    @Test
+    public void testCopyIsIndependentOfPrototype() {
+        final DefaultCodegenConfig prototype = new P_DefaultCodegenConfig();
+        prototype.additionalProperties().put("shared", "value");
+        final DefaultCodegenConfig copy = prototype.copy();
+        Assert.assertEquals(copy.getClass(), P_DefaultCodegenConfig.class);
+        Assert.assertEquals(copy.additionalProperties().get("shared"), "value");
+        Assert.assertEquals(copy.typeMapping(), prototype.typeMapping());
+
+        copy.additionalProperties().put(CodegenConstants.MODEL_PACKAGE, "io.swagger.copy");
+        copy.typeMapping().put("string", "CharSequence");
+        copy.importMapping().remove("BigDecimal");
+        copy.supportingFiles().add(new SupportingFile("README.mustache", "", "README.md"));
+        copy.processOpts();
+
+        Assert.assertEquals(copy.modelPackage(), "io.swagger.copy");
+        Assert.assertEquals(prototype.modelPackage(), "");
+        Assert.assertFalse(prototype.additionalProperties().containsKey(CodegenConstants.MODEL_PACKAGE));
+        Assert.assertEquals(prototype.typeMapping().get("string"), "String");
+        Assert.assertTrue(prototype.importMapping().containsKey("BigDecimal"));
+        Assert.assertTrue(prototype.supportingFiles().isEmpty());
+        Assert.assertNotSame(copy.getTemplateEngine(), prototype.getTemplateEngine());
+    }
+
+    @Test
+    public void testLanguageArgumentsAreReadOncePerClass() {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        final List<CodegenArgument> arguments = codegen.readLanguageArguments();
+        final List<CodegenArgument> otherArguments = new JavaClientCodegen().readLanguageArguments();
+        Assert.assertEquals(arguments.size(), otherArguments.size());
+        Assert.assertEquals(arguments.get(0).getOption(), "--test-option");
+        Assert.assertNotSame(arguments.get(0), otherArguments.get(0));
+
+        arguments.get(0).value("enabled");
+        codegen.setLanguageArguments(arguments);
+        Assert.assertEquals(codegen.getOptionValue("--TEST-OPTION"), "enabled");
+        Assert.assertNull(codegen.getOptionValue("--unknown-option"));
+        Assert.assertNull(otherArguments.get(0).getValue());
+
+        // added after the first lookup.
+        arguments.add(new CodegenArgument().option("--added-option").value("added"));
+        Assert.assertEquals(codegen.getOptionValue("--added-option"), "added");
+    }
+
+    @Test
+    public void testInvalidNumericOptions() {
+        final DefaultCodegenConfig codegen = new P_ParallelCodegenConfig();
+        codegen.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "four");
+        codegen.additionalProperties().put(DefaultCodegenConfig.STREAMING_GENERATION, "10k");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.getConversionParallelism(), 1);
+        Assert.assertEquals(codegen.getStreamingGenerationThreshold(), -1);
+
+        codegen.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, " 4 ");
+        codegen.additionalProperties().put(DefaultCodegenConfig.STREAMING_GENERATION, " 10000 ");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.getConversionParallelism(), 4);
+        Assert.assertEquals(codegen.getStreamingGenerationThreshold(), 10000);
+    }
+
+    @Test
+    public void testStreamingGenerationReleasesRenderedData() throws Exception {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.additionalProperties().put(DefaultCodegenConfig.STREAMING_GENERATION, "true");
+        codegen.processOpts();
+        codegen.templateEngine = new TemplateEngine() {
+            @Override
+            public String getRendered(String templateFile, Map<String, Object> templateData) {
+                return templateFile;
+            }
+
+            @Override
+            public String getName() {
+                return "test";
+            }
+        };
+        final TemplateEngine templateEngine = codegen.getTemplateEngine();
+        Assert.assertTrue(templateEngine instanceof StreamingTemplateEngine);
+
+        final CodegenModel parent = codegenModel("Parent");
+        final CodegenModel child = codegenModel("Child");
+        parent.vars.add(new CodegenProperty());
+        parent.children = new ArrayList<>(Arrays.asList(child));
+        child.vars.add(new CodegenProperty());
+        final CodegenOperation operation = new CodegenOperation();
+        operation.allParams = new ArrayList<>(Arrays.asList(new CodegenParameter()));
+
+        final Map<String, Object> parentData = modelData(parent);
+        final Map<String, Object> childData = modelData(child);
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", Arrays.asList(operation));
+        final Map<String, Object> apiData = new HashMap<>();
+        apiData.put("operations", operations);
+        final Map<String, Object> supportingData = new HashMap<>();
+        supportingData.put("apiInfo", new HashMap<>());
+        supportingData.put("models", new ArrayList<>());
+
+        templateEngine.getRendered("model", childData);
+        templateEngine.getRendered("model_doc", childData);
+        Assert.assertEquals(child.vars.size(), 1);
+        templateEngine.getRendered("model", parentData);
+        Assert.assertTrue(child.vars.isEmpty());
+        Assert.assertEquals(child.name, "Child");
+        templateEngine.getRendered("api", apiData);
+        Assert.assertEquals(operation.allParams.size(), 1);
+        templateEngine.getRendered("README", supportingData);
+        Assert.assertTrue(operation.allParams.isEmpty());
+        // the templates of the children may look into their parent.
+        Assert.assertEquals(parent.vars.size(), 1);
+    }
+
+    @Test
+    public void testStreamingGenerationThreshold() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        Assert.assertFalse(codegen.isStreamingGeneration());
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        codegen.preprocessOpenAPI(openAPI);
+        codegen.setStreamingGeneration("100000");
+        Assert.assertFalse(codegen.isStreamingGeneration());
+        codegen.setStreamingGeneration("1");
+        Assert.assertTrue(codegen.isStreamingGeneration());
+        codegen.setStreamingGeneration("false");
+        Assert.assertFalse(codegen.isStreamingGeneration());
+    }
+
+    private static Map<String, Object> modelData(CodegenModel codegenModel) {
+        final Map<String, Object> model = new HashMap<>();
+        model.put("model", codegenModel);
+        final Map<String, Object> data = new HashMap<>();
+        data.put("models", Arrays.asList(model));
+        return data;
+    }
+
+    /**
+     * Runs the model part of a generation in incremental mode, returning the models whose file was (re)written.
+     */
+    private Set<String> generateModels(File outputFolder, String changedSchema) throws Exception {
+        return generateModels(outputFolder, changedSchema, true);
+    }
+
+    private Set<String> generateModels(File outputFolder, String changedSchema, boolean processOpenAPI) throws Exception {
+        return generateModels(outputFolder, changedSchema, processOpenAPI, false, null);
+    }
+
+    /**
+     * @param orderReferencesPet adds a Pet property to Order, so Order references Category and Tag through Pet
+     * @param unwrittenSchema the schema whose file fails to be written
+     */
+    private Set<String> generateModels(File outputFolder, String changedSchema, boolean processOpenAPI,
+                                       boolean orderReferencesPet, String unwrittenSchema) throws Exception {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.setOutputDir(outputFolder.getAbsolutePath());
+        codegen.modelTemplateFiles().put("model.mustache", ".java");
+        codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL_GENERATION, "true");
+        codegen.processOpts();
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        if (changedSchema != null) {
+            schemas.get(changedSchema).addProperties("added", new IntegerSchema());
+        }
+        if (orderReferencesPet) {
+            schemas.get("Order").addProperties("pet", new Schema().$ref("#/components/schemas/Pet"));
+        }
+        codegen.preprocessOpenAPI(openAPI);
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            codegen.fromModel(entry.getKey(), entry.getValue(), schemas);
+        }
+        final Set<String> written = new HashSet<>();
+        for (String name : schemas.keySet()) {
+            final String filename = codegen.modelFileFolder() + File.separator + codegen.toModelFilename(name) + ".java";
+            if (codegen.shouldOverwrite(filename) && !name.equals(unwrittenSchema)) {
+                FileUtils.writeStringToFile(new File(filename), name, StandardCharsets.UTF_8);
+                written.add(name);
+            }
+        }
+        if (processOpenAPI) {
+            codegen.processOpenAPI(openAPI);
+        }
+        return written;
+    }
+
+    /**
+     * Converts the operations of the petstore spec the way the generator does, propagating a path level header.
+     */
+    private List<CodegenOperation> convertOperations(DefaultCodegenConfig codegen, int parallelism) {
+        codegen.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, String.valueOf(parallelism));
+        codegen.processOpts();
+        Assert.assertEquals(codegen.getConversionParallelism(), parallelism);
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            pathItem.addParametersItem(new Parameter().name("X-Request-ID").in("header").schema(new Schema().type("string")));
+        }
+        final List<CodegenOperation> codegenOperations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> pathEntry : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                final Operation operation = operationEntry.getValue();
+                for (Parameter parameter : pathEntry.getValue().getParameters()) {
+                    operation.addParametersItem(parameter);
+                }
+                final int tags = operation.getTags() == null ? 1 : operation.getTags().size();
+                for (int i = 0; i < tags; i++) {
+                    codegenOperations.add(codegen.fromOperation(pathEntry.getKey(), operationEntry.getKey().name().toLowerCase(), operation, schemas, openAPI));
+                }
+            }
+        }
+        return codegenOperations;
+    }
+
+    private static class P_ParallelCodegenConfig extends P_DefaultCodegenConfig {
+        @Override
+        protected boolean isParallelConversionSupported() {
+            return true;
+        }
+    }
+
     private static class P_DefaultCodegenConfig extends DefaultCodegenConfig{
         @Override
         public String getArgumentsLocation() {
@@ -1,16 +1,31 @@
 package io.swagger.codegen.v3.generators.examples;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.XML;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
 
+import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.File;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +56,19 @@ public class ExampleGeneratorTest {
         Assert.assertTrue(example.contains("\"name\" : \"doggie\""));
     }
 
+    @Test
+    public void testExamplesAreSetOnSchemas() throws Exception {
+        final String content = FileUtils.readFileToString(new File(getClass().getClassLoader().getResource("3_0_0/petstore.yaml").getFile()));
+        final OpenAPI petstore = new OpenAPIParser().readContents(content, null, new ParseOptions()).getOpenAPI();
+        final Schema petSchema = petstore.getComponents().getSchemas().get("Pet");
+        Assert.assertNull(petSchema.getExample());
+
+        final String example = new ExampleGenerator(petstore).generate(null, null, new Schema().$ref("#/components/schemas/Pet")).get(0).get("example");
+        // the examples built from the model values are set on the spec schemas, the next generators reuse them.
+        Assert.assertNotNull(petSchema.getExample());
+        Assert.assertEquals(new ExampleGenerator(petstore).generate(null, null, new Schema().$ref("#/components/schemas/Pet")).get(0).get("example"), example);
+    }
+
     @Test
     public void testExampleWithRecursiveNodes() throws Exception {
         final Schema categorySchema = openAPI.getComponents().getSchemas().get("Category");
@@ -52,4 +80,116 @@ public class ExampleGeneratorTest {
         Assert.assertEquals(example.get("contentType"), "application/json");
         Assert.assertTrue(example.get("example").contains("\"name\" : \"Yinotheria\""));
     }
+
+    @Test
+    public void testStreamingExampleFromSchema() throws Exception {
+        final Schema petSchema = openAPI.getComponents().getSchemas().get("Pet");
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI);
+        exampleGenerator.setStreaming(true);
+
+        final String example = exampleGenerator.generate(null, null, petSchema).get(0).get("example");
+        Assert.assertTrue(example.contains("\"name\" : \"doggie\""));
+        Assert.assertTrue(example.contains("\"name\" : \"Yinotheria\""));
+        Assert.assertTrue(Json.mapper().readTree(example).isObject());
+    }
+
+    @Test
+    public void testStreamingExamplesShareTheCacheOfTheSpec() throws Exception {
+        final Schema petSchema = openAPI.getComponents().getSchemas().get("Pet");
+        final ExampleCache exampleCache = new ExampleCache(openAPI);
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI, null, exampleCache);
+        exampleGenerator.setStreaming(true);
+
+        final String example = exampleGenerator.generate(null, null, petSchema).get(0).get("example");
+        Assert.assertFalse(exampleCache.getMemos().isEmpty());
+        final int memos = exampleCache.getMemos().size();
+
+        // the next generator of the spec replays the referenced models.
+        final ExampleGenerator next = new ExampleGenerator(openAPI, null, exampleCache);
+        next.setStreaming(true);
+        Assert.assertEquals(next.generate(null, null, petSchema).get(0).get("example"), example);
+        Assert.assertEquals(exampleCache.getMemos().size(), memos);
+
+        // the cache of another spec is not used.
+        final ExampleGenerator other = new ExampleGenerator(new OpenAPI(), null, exampleCache);
+        other.setStreaming(true);
+        other.generate(null, null, new Schema().$ref("#/components/schemas/Category"));
+        Assert.assertEquals(exampleCache.getMemos().size(), memos);
+    }
+
+    @Test
+    public void testStreamingExampleWithRecursiveModel() throws Exception {
+        final Schema node = new ObjectSchema()
+                .addProperties("value", new StringSchema())
+                .addProperties("parent", new Schema().$ref("#/components/schemas/Node"))
+                .addProperties("children", new ArraySchema().items(new Schema().$ref("#/components/schemas/Node")));
+        final OpenAPI recursive = new OpenAPI().components(new Components().addSchemas("Node", node));
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(recursive);
+        exampleGenerator.setStreaming(true);
+
+        final JsonNode example = Json.mapper().readTree(exampleGenerator.generate(null, null, new Schema().$ref("#/components/schemas/Node")).get(0).get("example"));
+        Assert.assertEquals(example.get("value").asText(), "value");
+        Assert.assertTrue(example.get("parent").isNull());
+        Assert.assertEquals(example.get("children").size(), 2);
+        Assert.assertTrue(example.get("children").get(0).isNull());
+        // the spec is left untouched.
+        Assert.assertNull(node.getExample());
+
+        exampleGenerator.setMaxSize(2);
+        final JsonNode truncated = Json.mapper().readTree(exampleGenerator.generate(null, null, node).get(0).get("example"));
+        Assert.assertEquals(truncated.size(), 1);
+    }
+
+    @Test
+    public void testXmlExampleFromSchema() throws Exception {
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(openAPI);
+
+        final List<Map<String, String>> exampleList = exampleGenerator.generate(null, Arrays.asList("application/json", "application/xml"), new Schema().$ref("#/components/schemas/Pet"));
+        Assert.assertEquals(exampleList.size(), 2);
+        Assert.assertEquals(exampleList.get(1).get("contentType"), "application/xml");
+        final String example = exampleList.get(1).get("example");
+        Assert.assertTrue(example.contains("<name>doggie</name>"));
+        Assert.assertTrue(example.contains("<status>available</status>"));
+        // wrapped arrays, the items of tags are named after the model.
+        Assert.assertTrue(example.contains("<photoUrl>\n    <photoUrl>photoUrl</photoUrl>"));
+        Assert.assertTrue(example.contains("<tag>\n    <Tag>"));
+
+        final Document document = parse(example);
+        Assert.assertEquals(document.getDocumentElement().getTagName(), "Pet");
+        // the recursive subcategories are cut off.
+        Assert.assertEquals(document.getElementsByTagName("subcategories").getLength(), 0);
+    }
+
+    @Test
+    public void testXmlExampleWithXmlMetadata() throws Exception {
+        final Schema node = new ObjectSchema()
+                .xml(new XML().name("node").prefix("n").namespace("http://example.com/node"))
+                .addProperties("id", new IntegerSchema().example(7).xml(new XML().attribute(true)))
+                .addProperties("value", new StringSchema())
+                .addProperties("children", new ArraySchema().items(new Schema().$ref("#/components/schemas/Node")).xml(new XML().name("child")));
+        final OpenAPI recursive = new OpenAPI().components(new Components().addSchemas("Node", node));
+        final ExampleGenerator exampleGenerator = new ExampleGenerator(recursive);
+
+        final String example = exampleGenerator.generate(null, Collections.singletonList("application/xml"), new Schema().$ref("#/components/schemas/Node")).get(0).get("example");
+        Assert.assertTrue(example.contains("<n:node xmlns:n=\"http://example.com/node\" id=\"7\">"));
+        Assert.assertTrue(example.contains("<value>value</value>"));
+
+        final Element root = parse(example).getDocumentElement();
+        Assert.assertEquals(root.getNamespaceURI(), "http://example.com/node");
+        Assert.assertEquals(root.getLocalName(), "node");
+        // unwrapped array of a recursive model: no items.
+        Assert.assertEquals(root.getElementsByTagNameNS("*", "child").getLength(), 0);
+        Assert.assertNull(node.getExample());
+
+        exampleGenerator.setMaxSize(2);
+        final Element truncated = parse(exampleGenerator.generate(null, Collections.singletonList("application/xml"), node).get(0).get("example")).getDocumentElement();
+        Assert.assertEquals(truncated.getAttribute("id"), "7");
+        Assert.assertEquals(truncated.getElementsByTagName("value").getLength(), 0);
+    }
+
+    private static Document parse(String xml) throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
 }
@@ -0,0 +1,37 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
+import com.github.jknack.handlebars.io.FileTemplateLoader;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.java.SpringCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+public class CompiledTemplateCacheTest {
+
+    @Test(description = "templates are compiled once per generator, directories, library, loader and content")
+    public void testSharedCompilation() throws Exception {
+        final TemplateLoader loader = new ClassPathTemplateLoader("/handlebars/Java");
+        final Template template = handlebars(JavaClientCodegen.class, "Java", null, loader).compileInline("Hello {{name}}");
+        Assert.assertSame(handlebars(JavaClientCodegen.class, "Java", null, new ClassPathTemplateLoader("/handlebars/Java")).compileInline("Hello {{name}}"), template);
+        Assert.assertEquals(template.apply(Collections.singletonMap("name", "world")), "Hello world");
+
+        Assert.assertNotSame(handlebars(JavaClientCodegen.class, "Java", null, loader).compileInline("Bye {{name}}"), template);
+        Assert.assertNotSame(handlebars(SpringCodegen.class, "Java", null, loader).compileInline("Hello {{name}}"), template);
+        Assert.assertNotSame(handlebars(JavaClientCodegen.class, "custom", null, loader).compileInline("Hello {{name}}"), template);
+        Assert.assertNotSame(handlebars(JavaClientCodegen.class, "Java", "jersey2", loader).compileInline("Hello {{name}}"), template);
+        // same template dir, but partials come from a custom directory.
+        Assert.assertNotSame(handlebars(JavaClientCodegen.class, "Java", null, new FileTemplateLoader("custom")).compileInline("Hello {{name}}"), template);
+        Assert.assertTrue(CompiledTemplateCache.size() <= CompiledTemplateCache.MAX_SIZE);
+    }
+
+    private static Handlebars handlebars(Class<?> generator, String templateDir, String library, TemplateLoader loader) {
+        final Handlebars handlebars = new Handlebars(loader);
+        return handlebars.with(new CompiledTemplateCache(generator, templateDir, null, library, handlebars.getLoader()));
+    }
+}
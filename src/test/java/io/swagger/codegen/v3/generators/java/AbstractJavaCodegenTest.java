@@ -97,6 +97,23 @@ public class AbstractJavaCodegenTest {
         Assert.assertEquals(fakeJavaCodegen.toVarName("_user_name"), "_userName");
     }
 
+    @Test
+    public void sanitizeVarName() throws Exception {
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("name"), "name");
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("tags[]"), "tags");
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("items[0].name (first)"), "items_0_name__first");
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("@type"), "_at_type");
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("$"), "value");
+        // other characters are kept, non ASCII letters included.
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("na\u00efve-name"), "na\u00efve_name");
+        Assert.assertEquals(fakeJavaCodegen.sanitizeVarName("nam$$e"), "nam$$e");
+
+        // leading digits and reserved words are escaped by toVarName.
+        Assert.assertEquals(fakeJavaCodegen.toVarName("1st-item"), "_1stItem");
+        Assert.assertEquals(fakeJavaCodegen.toVarName("import"), "_import");
+        Assert.assertEquals(fakeJavaCodegen.toVarName("na\u00efve-name"), "na\u00efveName");
+    }
+
     @Test
     public void convertModelName() throws Exception {
         Assert.assertEquals(fakeJavaCodegen.toModelName("name"), "Name");
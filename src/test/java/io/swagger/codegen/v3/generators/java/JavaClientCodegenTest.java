@@ -4,7 +4,14 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
+import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.CodegenAssert;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
@@ -14,12 +21,14 @@ import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -260,4 +269,168 @@ public class JavaClientCodegenTest {
         codegen.processOpts();
         Assert.assertEquals(codegen.templateDir(), String.join(File.separator,"user", "custom", "location"));
     }
+
+    @Test
+    public void testNativeLibrary() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.LIBRARY, JavaClientCodegen.NATIVE);
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.getLibrary(), JavaClientCodegen.NATIVE);
+        Assert.assertEquals(codegen.additionalProperties().get("java8"), "true");
+        Assert.assertEquals(codegen.additionalProperties().get("jackson"), "true");
+        Assert.assertNull(codegen.additionalProperties().get("threetenbp"));
+
+        final List<String> supportingFiles = new ArrayList<>();
+        for (SupportingFile supportingFile : codegen.supportingFiles()) {
+            supportingFiles.add(supportingFile.destinationFilename);
+        }
+        Assert.assertTrue(supportingFiles.contains("JSON.java"));
+        Assert.assertTrue(supportingFiles.contains("ApiException.java"));
+        Assert.assertTrue(supportingFiles.contains("RFC3339DateFormat.java"));
+        Assert.assertFalse(supportingFiles.contains("CustomInstantDeserializer.java"));
+    }
+
+    @Test
+    public void testUsePooledConnector() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.LIBRARY, "jersey2");
+        codegen.additionalProperties().put(JavaClientCodegen.USE_POOLED_CONNECTOR, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_POOLED_CONNECTOR), Boolean.TRUE);
+        Assert.assertTrue(codegen.usePooledConnector);
+    }
+
+    @Test
+    public void testUseStreamingBodies() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.LIBRARY, "jersey2");
+        codegen.additionalProperties().put(JavaClientCodegen.USE_STREAMING_BODIES, "true");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_STREAMING_BODIES), Boolean.TRUE);
+
+        final CodegenParameter body = new CodegenParameter();
+        body.dataType = "File";
+        body.getVendorExtensions().put(CodegenConstants.IS_FILE_EXT_NAME, Boolean.TRUE);
+        final CodegenParameter name = new CodegenParameter();
+        name.dataType = "String";
+        final CodegenOperation operation = new CodegenOperation();
+        operation.returnType = "byte[]";
+        operation.getVendorExtensions().put(CodegenConstants.IS_RESPONSE_BINARY_EXT_NAME, Boolean.TRUE);
+        operation.allParams.add(body);
+        operation.allParams.add(name);
+        operation.bodyParam = body;
+
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", Collections.singletonList(operation));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        objs.put("imports", new ArrayList<Map<String, String>>());
+        codegen.postProcessOperations(objs);
+
+        Assert.assertEquals(operation.returnType, "InputStream");
+        Assert.assertEquals(body.dataType, "InputStream");
+        Assert.assertEquals(name.dataType, "String");
+        Assert.assertEquals(objs.get("imports"), Collections.singletonList(Collections.singletonMap("import", "java.io.InputStream")));
+    }
+
+    @Test
+    public void testWebClientLibrary() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.LIBRARY, JavaClientCodegen.WEBCLIENT);
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.getLibrary(), JavaClientCodegen.WEBCLIENT);
+        Assert.assertEquals(codegen.additionalProperties().get("java8"), "true");
+        Assert.assertEquals(codegen.additionalProperties().get("jackson"), "true");
+
+        final List<String> supportingFiles = new ArrayList<>();
+        for (SupportingFile supportingFile : codegen.supportingFiles()) {
+            supportingFiles.add(supportingFile.destinationFilename);
+        }
+        Assert.assertTrue(supportingFiles.contains("ApiClient.java"));
+        Assert.assertTrue(supportingFiles.contains("Authentication.java"));
+        Assert.assertFalse(supportingFiles.contains("ApiException.java"));
+        Assert.assertFalse(supportingFiles.contains("StringUtil.java"));
+
+        final CodegenOperation findPets = new CodegenOperation();
+        findPets.returnType = "List<Pet>";
+        findPets.getVendorExtensions().put(CodegenConstants.IS_LIST_CONTAINER_EXT_NAME, Boolean.TRUE);
+        final CodegenOperation getPet = new CodegenOperation();
+        getPet.returnType = "Pet";
+        final CodegenOperation deletePet = new CodegenOperation();
+
+        final Map<String, Object> operations = new HashMap<>();
+        operations.put("operation", Arrays.asList(findPets, getPet, deletePet));
+        final Map<String, Object> objs = new HashMap<>();
+        objs.put("operations", operations);
+        objs.put("imports", new ArrayList<Map<String, String>>());
+        codegen.postProcessOperations(objs);
+
+        Assert.assertEquals(findPets.getVendorExtensions().get(JavaClientCodegen.REACTIVE_RETURN_TYPE_EXT_NAME), "Flux<Pet>");
+        Assert.assertEquals(findPets.getVendorExtensions().get(JavaClientCodegen.REACTIVE_ELEMENT_TYPE_EXT_NAME), "Pet");
+        Assert.assertEquals(findPets.getVendorExtensions().get(JavaClientCodegen.IS_FLUX_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(getPet.getVendorExtensions().get(JavaClientCodegen.REACTIVE_RETURN_TYPE_EXT_NAME), "Mono<Pet>");
+        Assert.assertEquals(getPet.getVendorExtensions().get(JavaClientCodegen.IS_FLUX_EXT_NAME), Boolean.FALSE);
+        Assert.assertEquals(deletePet.getVendorExtensions().get(JavaClientCodegen.REACTIVE_RETURN_TYPE_EXT_NAME), "Mono<Void>");
+    }
+
+    @Test
+    public void testParallelModelConversion() throws Exception {
+        final JavaClientCodegen sequential = new JavaClientCodegen();
+        sequential.processOpts();
+        final JavaClientCodegen parallel = new ParallelJavaClientCodegen();
+        parallel.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "4");
+        parallel.processOpts();
+        Assert.assertEquals(parallel.getConversionParallelism(), 4);
+        // the java generators have not opted in.
+        final JavaClientCodegen unsupported = new JavaClientCodegen();
+        unsupported.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "4");
+        unsupported.processOpts();
+        Assert.assertEquals(unsupported.getConversionParallelism(), 1);
+
+        // each run gets its own spec, the conversion writes into it.
+        final Map<String, Schema> sequentialSchemas = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml").getComponents().getSchemas();
+        final Map<String, Schema> schemas = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml").getComponents().getSchemas();
+        for (Map.Entry<String, Schema> entry : sequentialSchemas.entrySet()) {
+            final CodegenModel expected = sequential.fromModel(entry.getKey(), entry.getValue(), sequentialSchemas);
+            final CodegenModel actual = parallel.fromModel(entry.getKey(), schemas.get(entry.getKey()), schemas);
+            CodegenAssert.assertSameConversion(actual, expected);
+        }
+    }
+
+    @Test
+    public void testParallelOperationConversion() throws Exception {
+        final JavaClientCodegen sequential = new JavaClientCodegen();
+        sequential.processOpts();
+        final JavaClientCodegen parallel = new ParallelJavaClientCodegen();
+        parallel.additionalProperties().put(DefaultCodegenConfig.CONVERSION_PARALLELISM, "4");
+        parallel.processOpts();
+
+        final OpenAPI sequentialOpenAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final OpenAPI openAPI = new OpenAPIV3Parser().read("src/test/resources/3_0_0/petstore.yaml");
+        final Map<String, Schema> sequentialSchemas = sequentialOpenAPI.getComponents().getSchemas();
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        for (Map.Entry<String, PathItem> pathEntry : sequentialOpenAPI.getPaths().entrySet()) {
+            final PathItem pathItem = openAPI.getPaths().get(pathEntry.getKey());
+            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                final String httpMethod = operationEntry.getKey().name().toLowerCase();
+                final CodegenOperation expected = sequential.fromOperation(pathEntry.getKey(), httpMethod, operationEntry.getValue(), sequentialSchemas, sequentialOpenAPI);
+                final CodegenOperation actual = parallel.fromOperation(pathEntry.getKey(), httpMethod, pathItem.readOperationsMap().get(operationEntry.getKey()), schemas, openAPI);
+                CodegenAssert.assertSameConversion(actual, expected);
+            }
+        }
+    }
+
+    /**
+     * Opts in to the parallel conversion the java generators do not support yet.
+     */
+    private static class ParallelJavaClientCodegen extends JavaClientCodegen {
+        @Override
+        protected boolean isParallelConversionSupported() {
+            return true;
+        }
+    }
 }
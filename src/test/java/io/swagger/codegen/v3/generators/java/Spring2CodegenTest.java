@@ -0,0 +1,86 @@
+package io.swagger.codegen.v3.generators.java;
+
+import io.swagger.codegen.v3.SupportingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class Spring2CodegenTest {
+
+    @Test
+    public void testReactive() throws Exception {
+        final Spring2Codegen codegen = new Spring2Codegen();
+        codegen.additionalProperties().put(Spring2Codegen.REACTIVE, true);
+        codegen.additionalProperties().put(Spring2Codegen.ASYNC, true);
+        codegen.additionalProperties().put(Spring2Codegen.RESPONSE_WRAPPER, "Callable");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(Spring2Codegen.REACTIVE), Boolean.TRUE);
+        Assert.assertEquals(codegen.additionalProperties().get(Spring2Codegen.JAVA_8), Boolean.TRUE);
+        // responses are wrapped in Mono/Flux instead.
+        Assert.assertFalse(codegen.additionalProperties().containsKey(Spring2Codegen.ASYNC));
+        Assert.assertFalse(codegen.additionalProperties().containsKey(Spring2Codegen.RESPONSE_WRAPPER));
+
+        Assert.assertEquals(codegen.apiTemplateFiles().get("reactive/api.mustache"), ".java");
+        Assert.assertEquals(codegen.apiTemplateFiles().get("reactive/apiController.mustache"), "Controller.java");
+        Assert.assertFalse(codegen.apiTemplateFiles().containsKey("api.mustache"));
+        Assert.assertFalse(codegen.apiTemplateFiles().containsKey("apiController.mustache"));
+        Assert.assertEquals(codegen.apiTestTemplateFiles().get("reactive/api_test.mustache"), ".java");
+        Assert.assertFalse(codegen.apiTestTemplateFiles().containsKey("api_test.mustache"));
+
+        final Set<String> supportingFiles = supportingFiles(codegen);
+        Assert.assertTrue(supportingFiles.contains("NettyConfiguration.java"));
+        Assert.assertTrue(supportingFiles.contains("Swagger2SpringBoot.java"));
+        // servlet and SpringFox only.
+        Assert.assertFalse(supportingFiles.contains("HomeController.java"));
+        Assert.assertFalse(supportingFiles.contains("ApiOriginFilter.java"));
+        Assert.assertFalse(supportingFiles.contains("SwaggerDocumentationConfig.java"));
+    }
+
+    @Test
+    public void testReactiveDelegate() throws Exception {
+        final Spring2Codegen codegen = new Spring2Codegen();
+        codegen.additionalProperties().put(Spring2Codegen.REACTIVE, true);
+        codegen.additionalProperties().put(Spring2Codegen.DELEGATE_PATTERN, true);
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.apiTemplateFiles().get("reactive/apiDelegate.mustache"), "Delegate.java");
+        Assert.assertFalse(codegen.apiTemplateFiles().containsKey("apiDelegate.mustache"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testReactiveRequiresSpringBoot() throws Exception {
+        final Spring2Codegen codegen = new Spring2Codegen();
+        codegen.setLibrary(Spring2Codegen.SPRING_MVC_LIBRARY);
+        codegen.additionalProperties().put(Spring2Codegen.REACTIVE, true);
+        codegen.processOpts();
+    }
+
+    @Test
+    public void testNotReactive() throws Exception {
+        final Spring2Codegen codegen = new Spring2Codegen();
+        codegen.additionalProperties().put(Spring2Codegen.ASYNC, true);
+        codegen.processOpts();
+
+        Assert.assertFalse(codegen.additionalProperties().containsKey(Spring2Codegen.REACTIVE));
+        Assert.assertEquals(codegen.apiTemplateFiles().get("api.mustache"), ".java");
+        Assert.assertEquals(codegen.apiTemplateFiles().get("apiController.mustache"), "Controller.java");
+        Assert.assertFalse(codegen.apiTemplateFiles().containsKey("reactive/api.mustache"));
+
+        final Set<String> supportingFiles = supportingFiles(codegen);
+        Assert.assertTrue(supportingFiles.contains("HomeController.java"));
+        Assert.assertTrue(supportingFiles.contains("ApiOriginFilter.java"));
+        Assert.assertTrue(supportingFiles.contains("SwaggerDocumentationConfig.java"));
+        Assert.assertFalse(supportingFiles.contains("NettyConfiguration.java"));
+    }
+
+    private static Set<String> supportingFiles(Spring2Codegen codegen) {
+        final Set<String> supportingFiles = new HashSet<>();
+        for (SupportingFile supportingFile : codegen.supportingFiles()) {
+            supportingFiles.add(supportingFile.destinationFilename);
+        }
+        return supportingFiles;
+    }
+}
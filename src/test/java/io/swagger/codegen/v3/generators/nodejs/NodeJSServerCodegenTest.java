@@ -0,0 +1,46 @@
+package io.swagger.codegen.v3.generators.nodejs;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Map;
+
+public class NodeJSServerCodegenTest {
+
+    private OpenAPI openAPI;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        final String content = FileUtils.readFileToString(new File(getClass().getClassLoader().getResource("3_0_0/petstore.yaml").getFile()));
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        this.openAPI = new OpenAPIParser().readContents(content, null, options).getOpenAPI();
+    }
+
+    @Test
+    public void testExamplesOfXmlOperation() {
+        final NodeJSServerCodegen codegen = new NodeJSServerCodegen();
+        final Operation operation = openAPI.getPaths().get("/pet/{petId}").getGet();
+
+        // the service template pastes the examples as javascript, only JSON ones by default.
+        CodegenOperation codegenOperation = codegen.fromOperation("/pet/{petId}", "get", operation, openAPI.getComponents().getSchemas(), openAPI);
+        Assert.assertEquals(codegenOperation.examples.size(), 1);
+        Assert.assertEquals(codegenOperation.examples.get(0).get("contentType"), "application/json");
+
+        codegen.setXmlExamples(true);
+        codegenOperation = codegen.fromOperation("/pet/{petId}", "get", operation, openAPI.getComponents().getSchemas(), openAPI);
+        Assert.assertEquals(codegenOperation.examples.size(), 2);
+        final Map<String, String> xmlExample = codegenOperation.examples.get(1);
+        Assert.assertEquals(xmlExample.get("contentType"), "application/xml");
+        Assert.assertTrue(xmlExample.get("example").contains("<Pet>"));
+    }
+}
@@ -26,6 +26,30 @@ public class PhpClientCodegenTest {
         Assert.assertEquals(codegen.embeddedTemplateDir(), "handlebars" + File.separator + "php");
     }
 
+    @Test
+    public void testToModelName() throws Exception {
+        final PhpClientCodegen codegen = new PhpClientCodegen();
+
+        Assert.assertEquals(codegen.toModelName("pet"), "Pet");
+        Assert.assertEquals(codegen.toModelName("Pet[]"), "Pet");
+        Assert.assertEquals(codegen.toModelName("pet-store item"), "PetStoreItem");
+        Assert.assertEquals(codegen.toModelName("\\DateTime"), "\\DateTime");
+        // reserved words and leading digits are escaped.
+        Assert.assertEquals(codegen.toModelName("return"), "ModelReturn");
+        Assert.assertEquals(codegen.toModelName("200_response"), "Model200Response");
+        // non ASCII characters are replaced.
+        Assert.assertEquals(codegen.toModelName("caf\u00e9Menu"), "CafMenu");
+    }
+
+    @Test
+    public void testToVarName() throws Exception {
+        final PhpClientCodegen codegen = new PhpClientCodegen();
+
+        Assert.assertEquals(codegen.toVarName("petId"), "pet_id");
+        Assert.assertEquals(codegen.toVarName("1st_item"), "_1st_item");
+        Assert.assertEquals(codegen.toVarName("return"), "return");
+    }
+
     @Test
     public void testSetters() throws Exception {
         final PhpClientCodegen codegen = new PhpClientCodegen();
@@ -0,0 +1,63 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testEvictsUnreferencedEntries() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(8);
+        for (int i = 0; i < 8; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        // referenced entries get a second chance.
+        Assert.assertEquals(cache.get("key0"), "value0");
+        Assert.assertEquals(cache.get("key1"), "value1");
+        cache.put("key8", "value8");
+
+        Assert.assertTrue(cache.size() <= 8);
+        Assert.assertEquals(cache.get("key0"), "value0");
+        Assert.assertEquals(cache.get("key1"), "value1");
+        Assert.assertEquals(cache.remove("key1"), "value1");
+        Assert.assertNull(cache.get("key1"));
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        final Integer key = i % 500;
+                        final Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key * 2);
+                        } else {
+                            Assert.assertEquals(value.intValue(), key * 2);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // a sweep may still be running behind a put, but never leaves the cache far above its size.
+        Assert.assertTrue(cache.size() <= 100 + 8, "size " + cache.size());
+    }
+}
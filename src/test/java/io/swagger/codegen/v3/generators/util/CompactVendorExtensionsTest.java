@@ -0,0 +1,72 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.codegen.v3.generators.handlebars.ExtensionHelper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public class CompactVendorExtensionsTest {
+
+    @Test
+    public void testBehavesLikeMap() {
+        final Map<String, Object> expected = new HashMap<>();
+        final CompactVendorExtensions vendorExtensions = new CompactVendorExtensions();
+        for (Map<String, Object> map : new Map[]{expected, vendorExtensions}) {
+            map.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+            map.put(CodegenConstants.HAS_MORE_EXT_NAME, Boolean.FALSE);
+            map.put(CodegenConstants.IS_STRING_EXT_NAME, "true");
+            map.put("x-custom", "value");
+            map.put(CodegenConstants.IS_XML_WRAPPED_EXT_NAME, null);
+        }
+        Assert.assertEquals(vendorExtensions, expected);
+        Assert.assertEquals(expected, vendorExtensions);
+        Assert.assertEquals(vendorExtensions.size(), 5);
+        Assert.assertEquals(vendorExtensions.get(CodegenConstants.IS_ENUM_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(vendorExtensions.get(CodegenConstants.IS_STRING_EXT_NAME), "true");
+        Assert.assertTrue(vendorExtensions.containsKey(CodegenConstants.IS_XML_WRAPPED_EXT_NAME));
+        Assert.assertFalse(vendorExtensions.containsKey(CodegenConstants.IS_UUID_EXT_NAME));
+
+        // a flag set to a string after a boolean, and back.
+        vendorExtensions.put(CodegenConstants.IS_ENUM_EXT_NAME, "false");
+        Assert.assertEquals(vendorExtensions.get(CodegenConstants.IS_ENUM_EXT_NAME), "false");
+        vendorExtensions.put(CodegenConstants.IS_STRING_EXT_NAME, Boolean.TRUE);
+        Assert.assertEquals(vendorExtensions.get(CodegenConstants.IS_STRING_EXT_NAME), Boolean.TRUE);
+        Assert.assertEquals(vendorExtensions.size(), 5);
+
+        Assert.assertEquals(vendorExtensions.remove(CodegenConstants.HAS_MORE_EXT_NAME), Boolean.FALSE);
+        final Iterator<Map.Entry<String, Object>> entries = vendorExtensions.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<String, Object> entry = entries.next();
+            if ("x-custom".equals(entry.getKey())) {
+                entries.remove();
+            } else if (CodegenConstants.IS_STRING_EXT_NAME.equals(entry.getKey())) {
+                entry.setValue(Boolean.FALSE);
+            }
+        }
+        Assert.assertFalse(vendorExtensions.containsKey(CodegenConstants.HAS_MORE_EXT_NAME));
+        Assert.assertFalse(vendorExtensions.containsKey("x-custom"));
+        Assert.assertEquals(vendorExtensions.get(CodegenConstants.IS_STRING_EXT_NAME), Boolean.FALSE);
+        Assert.assertEquals(vendorExtensions.size(), 3);
+    }
+
+    @Test
+    public void testGetBoolean() {
+        final CodegenProperty property = new CodegenProperty();
+        property.vendorExtensions = new CompactVendorExtensions(property.vendorExtensions);
+        property.vendorExtensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        property.vendorExtensions.put(CodegenConstants.HAS_MORE_EXT_NAME, Boolean.FALSE);
+        property.vendorExtensions.put(CodegenConstants.IS_STRING_EXT_NAME, "TRUE");
+        property.vendorExtensions.put("x-is-custom", true);
+
+        Assert.assertTrue(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_ENUM_EXT_NAME));
+        Assert.assertFalse(ExtensionHelper.getBooleanValue(property, CodegenConstants.HAS_MORE_EXT_NAME));
+        Assert.assertTrue(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_STRING_EXT_NAME));
+        Assert.assertTrue(ExtensionHelper.getBooleanValue(property, "x-is-custom"));
+        Assert.assertFalse(ExtensionHelper.getBooleanValue(property, CodegenConstants.IS_UUID_EXT_NAME));
+    }
+}
@@ -0,0 +1,51 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+public class LowerCaseWordsTest {
+
+    @Test
+    public void testLookups() {
+        final LowerCaseWords words = LowerCaseWords.of("class", "ApiClient", "localVarPath", "class");
+
+        Assert.assertEquals(words.size(), 3);
+        Assert.assertEquals(new HashSet<>(words), new HashSet<>(Arrays.asList("class", "apiclient", "localvarpath")));
+        // the set holds the lower case forms.
+        Assert.assertTrue(words.contains("apiclient"));
+        Assert.assertFalse(words.contains("ApiClient"));
+        Assert.assertTrue(words.containsIgnoreCase("ApiClient"));
+        Assert.assertTrue(words.containsIgnoreCase("CLASS"));
+        Assert.assertTrue(words.containsIgnoreCase("localvarpath"));
+        Assert.assertFalse(words.containsIgnoreCase("classes"));
+        Assert.assertFalse(words.containsIgnoreCase(""));
+        Assert.assertFalse(words.containsIgnoreCase(null));
+    }
+
+    @Test
+    public void testNonAsciiLookups() {
+        // "\u0130d" (dotted capital I) is "i\u0307d" in lower case, "\u039f\u0394\u039f\u03a3" ends with a final sigma.
+        final LowerCaseWords words = LowerCaseWords.of("\u0130d", "\u039f\u0394\u039f\u03a3", "stra\u00dfe");
+
+        Assert.assertTrue(words.contains("i\u0307d"));
+        Assert.assertTrue(words.contains("\u03bf\u03b4\u03bf\u03c2"));
+        // the same as looking up the toLowerCase(Locale.ROOT) form.
+        for (String word : Arrays.asList("\u0130D", "id", "ID", "\u039f\u0394\u039f\u03a3", "\u03bf\u03b4\u03bf\u03c3", "STRA\u00dfE", "STRASSE", "stra\u00dfe")) {
+            Assert.assertEquals(words.containsIgnoreCase(word), words.contains(word.toLowerCase(Locale.ROOT)), word);
+        }
+        Assert.assertTrue(words.containsIgnoreCase("\u0130D"));
+        Assert.assertFalse(words.containsIgnoreCase("ID"));
+        Assert.assertTrue(words.containsIgnoreCase("\u039f\u0394\u039f\u03a3"));
+        Assert.assertTrue(words.containsIgnoreCase("STRA\u00dfE"));
+        Assert.assertFalse(words.containsIgnoreCase("STRASSE"));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        LowerCaseWords.of("class").add("enum");
+    }
+}
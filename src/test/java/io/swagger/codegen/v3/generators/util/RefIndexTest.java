@@ -0,0 +1,62 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RefIndexTest {
+
+    @Test
+    public void testResolveComponents() {
+        final Schema pet = new ObjectSchema();
+        final Parameter limit = new Parameter().name("limit").in("query");
+        final ApiResponse notFound = new ApiResponse().description("not found");
+        final Header rateLimit = new Header().schema(new StringSchema());
+        final RequestBody petBody = new RequestBody().description("pet");
+        final OpenAPI openAPI = new OpenAPI().components(new Components()
+                .addSchemas("Pet", pet)
+                .addParameters("limit", limit)
+                .addResponses("NotFound", notFound)
+                .addHeaders("RateLimit", rateLimit)
+                .addRequestBodies("Pet", petBody));
+
+        final RefIndex refIndex = new RefIndex(openAPI);
+        Assert.assertSame(refIndex.getOpenAPI(), openAPI);
+
+        Assert.assertSame(refIndex.getSchema("#/components/schemas/Pet"), pet);
+        Assert.assertSame(refIndex.getParameter("#/components/parameters/limit"), limit);
+        Assert.assertSame(refIndex.getResponse("#/components/responses/NotFound"), notFound);
+        Assert.assertSame(refIndex.getHeader("#/components/headers/RateLimit"), rateLimit);
+        Assert.assertSame(refIndex.getRequestBody("#/components/requestBodies/Pet"), petBody);
+        // resolved by the last segment, like OpenAPIUtil.getSimpleRef
+        Assert.assertSame(refIndex.getHeader("#/components/RateLimit"), rateLimit);
+        Assert.assertEquals(refIndex.getName("Pet"), "Pet");
+        Assert.assertNull(refIndex.getSchema("#/components/schemas/Missing"));
+
+        // components added later are found as well.
+        final Schema category = new ObjectSchema();
+        openAPI.getComponents().addSchemas("Category", category);
+        Assert.assertSame(refIndex.getSchema("#/components/schemas/Category"), category);
+
+        // the components are resolved when the index is built.
+        openAPI.getComponents().addSchemas("Pet", new ObjectSchema());
+        Assert.assertSame(refIndex.getSchema("#/components/schemas/Pet"), pet);
+        Assert.assertSame(new RefIndex(openAPI).getSchema("#/components/schemas/Pet"), openAPI.getComponents().getSchemas().get("Pet"));
+
+        Assert.assertEquals(refIndex.getSchemaName("#/components/schemas/Pet"), "Pet");
+        Assert.assertEquals(refIndex.getSchemaName("#/components/schemas/Order"), "Order");
+        Assert.assertEquals(refIndex.getSchemaName("#/components/schemas/pets/Pet"), "pets/Pet");
+        Assert.assertEquals(refIndex.getSchemaName("#/components/responses/NotFound"), "#/components/responses/NotFound");
+        Assert.assertEquals(refIndex.getSchemaName("Pet.yaml"), "Pet.yaml");
+        Assert.assertNull(new RefIndex(new OpenAPI()).getSchema("#/components/schemas/Pet"));
+        Assert.assertNull(new RefIndex(null).getSchema("#/components/schemas/Pet"));
+    }
+}